@@ -0,0 +1,83 @@
+package com.reliaquest.api.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Gzip cost of the JSON roster envelope per deflate level and roster size, against the transfer time it saves. The
+ * sizes and the time saved on a 100 Mbit/s and a 1 Gbit/s link are printed once per trial; compression pays off
+ * where {@code compress} plus {@code decompress} stays below the time saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private byte[] payload;
+    private byte[] compressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = Jackson2ObjectMapperBuilder.json()
+                .build()
+                .writeValueAsBytes(RosterFixtures.upstreamResponse(rows, 42L));
+        compressed = compress();
+
+        long savedBits = (payload.length - compressed.length) * 8L;
+        System.out.printf(
+                "%n[compression] rows=%d level=%d payloadBytes=%d gzipBytes=%d ratio=%.2f savedUs@100Mbit=%d"
+                        + " savedUs@1Gbit=%d%n",
+                rows,
+                level,
+                payload.length,
+                compressed.length,
+                (double) compressed.length / payload.length,
+                savedBits / 100,
+                savedBits / 1_000);
+    }
+
+    @Benchmark
+    public byte[] compress() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 8192) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(payload);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] decompress() throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed), 8192)) {
+            return gzip.readAllBytes();
+        }
+    }
+}
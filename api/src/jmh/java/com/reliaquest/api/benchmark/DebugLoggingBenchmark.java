@@ -0,0 +1,143 @@
+package com.reliaquest.api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import com.reliaquest.api.client.dto.UpstreamApiResponse;
+import com.reliaquest.api.configuration.WebClientConfiguration;
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * {@link EmployeeClient#getEmployeeById(String)} latency against a loopback server with {@code com.reliaquest} at
+ * INFO, and at DEBUG written to a file either on the request thread or through the async appender that
+ * logback-spring.xml configures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DebugLoggingBenchmark {
+
+    public enum Logging {
+        OFF,
+        DEBUG_SYNC,
+        DEBUG_ASYNC
+    }
+
+    @Param({"OFF", "DEBUG_SYNC", "DEBUG_ASYNC"})
+    public Logging logging;
+
+    private DisposableServer server;
+    private EmployeeClient employeeClient;
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+    private String id;
+
+    @Setup
+    public void setUp() throws IOException {
+        UpstreamApiResponse<EmployeeDTO> response = new UpstreamApiResponse<>();
+        response.setData(RosterFixtures.employees(1, 42L).get(0));
+        response.setStatus("Successfully processed request.");
+        byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(response);
+        id = response.getData().getId();
+
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get(
+                        "/employee/{id}",
+                        (request, reply) -> reply.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                .sendByteArray(Mono.just(json))))
+                .bindNow();
+
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.setBaseUri("http://localhost:" + server.port());
+        employeeClient = new EmployeeClient(
+                new WebClientConfiguration(properties).employeeWebClient(), properties, new SimpleMeterRegistry());
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logger = context.getLogger("com.reliaquest");
+        logger.setAdditive(false);
+        logger.setLevel(logging == Logging.OFF ? Level.INFO : Level.DEBUG);
+        logFile = Files.createTempFile("debug-logging-benchmark", ".log");
+        appender = logging == Logging.DEBUG_ASYNC ? async(context, file(context)) : file(context);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        logger.detachAppender(appender);
+        appender.stop();
+        logger.setLevel(null);
+        logger.setAdditive(true);
+        server.disposeNow();
+        System.out.printf("%n[debug-logging] logging=%s logBytes=%d%n", logging, Files.size(logFile));
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public EmployeeDTO getEmployeeById() {
+        return employeeClient.getEmployeeById(id);
+    }
+
+    private FileAppender<ILoggingEvent> file(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        return fileAppender;
+    }
+
+    // Same settings as logback-spring.xml.
+    private static AsyncAppender async(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(delegate);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+}
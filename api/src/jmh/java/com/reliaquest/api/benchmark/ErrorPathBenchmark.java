@@ -0,0 +1,83 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.GlobalExceptionHandler;
+import com.reliaquest.api.exception.UpstreamException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Cost of answering a rate-limited call compared with a successful one. {@code legacyError} throws a fresh
+ * {@link ResponseStatusException} from {@code depth} frames down and serializes its body map per response, as the
+ * client did before; {@code upstreamError} throws the shared stackless {@link UpstreamException} and writes its
+ * preserialized body. Depth stands in for the servlet, Spring and Reactor frames a real request sits under.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"16", "128"})
+    public int depth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler exceptionHandler;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exceptionHandler = new GlobalExceptionHandler();
+        employee = new Employee("9001", "Naruto Uzumaki", 120000, 30, "Hokage", "naruto@company.com");
+    }
+
+    @Benchmark
+    public byte[] success() throws IOException {
+        return objectMapper.writeValueAsBytes(call(depth, () -> employee));
+    }
+
+    @Benchmark
+    public byte[] legacyError() throws IOException {
+        try {
+            return objectMapper.writeValueAsBytes(call(depth, () -> {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Upstream rate limited requests");
+            }));
+        } catch (ResponseStatusException ex) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleResponseStatusException(ex).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] upstreamError() throws IOException {
+        try {
+            return objectMapper.writeValueAsBytes(call(depth, () -> {
+                throw UpstreamException.RATE_LIMITED;
+            }));
+        } catch (UpstreamException ex) {
+            return exceptionHandler.handleUpstreamException(ex).getBody();
+        }
+    }
+
+    private static Employee call(int remaining, Supplier<Employee> upstream) {
+        return remaining == 0 ? upstream.get() : call(remaining - 1, upstream);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.mapper.EmployeeProjection;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code GET /api/employee} serialization of the whole {@code Employee} list against {@code GET /api/employee/sparse}
+ * writing only the requested fields from the snapshot. Each returns the response size in bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"id,name", "id,name,salary,age,title,email"})
+    public String fields;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private EmployeeSnapshot snapshot;
+    private EmployeeProjection projection;
+
+    @Setup
+    public void setUp() {
+        snapshot = EmployeeSnapshot.of(RosterFixtures.employees(rows, 42L));
+        projection = EmployeeProjection.of(fields);
+    }
+
+    @Benchmark
+    public int employeeList() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        objectMapper.writeValue(buffer, employeeMapper.toEmployees(snapshot));
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int projection() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            projection.writeArray(generator, snapshot);
+        }
+        return buffer.size();
+    }
+}
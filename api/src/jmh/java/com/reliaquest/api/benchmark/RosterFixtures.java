@@ -0,0 +1,59 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import com.reliaquest.api.client.dto.UpstreamApiResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters shaped like the mock server's output: random UUIDs, two-part names and a small set of
+ * recurring titles.
+ */
+public final class RosterFixtures {
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "Naruto", "Tony", "Diana", "Clark", "Bruce", "Selena", "Hermione", "Keanu", "Levi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Uzumaki", "Stark", "Prince", "Kent", "Wayne", "Kyle", "Granger", "Reeves", "Ackerman"
+    };
+    private static final String[] TITLES = {
+        "Documentation Engineer",
+        "Financial Advisor",
+        "Chief Innovation Engineer",
+        "Lead Operations Specialist",
+        "Senior Marketing Consultant",
+        "Regional Accounting Officer",
+        "Vice Chair Executive Principal of Chief Operations Implementation Specialist"
+    };
+
+    private RosterFixtures() {}
+
+    public static List<EmployeeDTO> employees(int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<EmployeeDTO> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setEmployeeName(firstName + " " + lastName + " " + i);
+            employee.setEmployeeSalary(random.nextInt(30000, 500000));
+            employee.setEmployeeAge(random.nextInt(16, 70));
+            employee.setEmployeeTitle(TITLES[random.nextInt(TITLES.length)]);
+            employee.setEmployeeEmail((firstName.charAt(0) + lastName + i).toLowerCase() + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    public static UpstreamApiResponse<List<EmployeeDTO>> upstreamResponse(int rows, long seed) {
+        UpstreamApiResponse<List<EmployeeDTO>> response = new UpstreamApiResponse<>();
+        response.setData(employees(rows, seed));
+        response.setStatus("Successfully processed request.");
+        return response;
+    }
+}
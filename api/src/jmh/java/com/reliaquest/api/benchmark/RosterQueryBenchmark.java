@@ -0,0 +1,69 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.properties.RosterProperties;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import com.reliaquest.api.roster.RosterQueries;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential versus fork-join evaluation of the roster queries across roster sizes. The smallest size at which
+ * PARALLEL wins on the target hardware is the value for {@code employee-roster.parallel.threshold}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RosterQueryBenchmark {
+
+    @Param({"10000", "50000", "100000", "250000", "1000000", "2000000"})
+    public int rows;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    public String mode;
+
+    private EmployeeSnapshot snapshot;
+    private RosterQueries rosterQueries;
+
+    @Setup
+    public void setUp() {
+        snapshot = EmployeeSnapshot.of(RosterFixtures.employees(rows, 42L));
+
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.getParallel().setThreshold("PARALLEL".equals(mode) ? 0 : Integer.MAX_VALUE);
+        rosterQueries = new RosterQueries(rosterProperties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        rosterQueries.shutdown();
+    }
+
+    @Benchmark
+    public int[] nameSearch() {
+        return rosterQueries.rowsWithNameContaining(snapshot, "stark 1");
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return rosterQueries.highestSalary(snapshot);
+    }
+
+    @Benchmark
+    public int[] topTen() {
+        return rosterQueries.topRowsBySalary(snapshot, 10);
+    }
+}
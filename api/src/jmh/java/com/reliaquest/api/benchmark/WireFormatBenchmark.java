@@ -0,0 +1,69 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import com.reliaquest.api.client.dto.UpstreamApiResponse;
+import com.reliaquest.api.configuration.WebClientConfiguration;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encode and decode cost of the full roster envelope in each wire format. Payload size is printed once per trial
+ * since it does not vary between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<UpstreamApiResponse<List<EmployeeDTO>>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Param({"JSON", "SMILE"})
+    public String format;
+
+    @Param({"100000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private UpstreamApiResponse<List<EmployeeDTO>> roster;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "SMILE".equals(format)
+                ? WebClientConfiguration.smileObjectMapper()
+                : Jackson2ObjectMapperBuilder.json().build();
+        roster = RosterFixtures.upstreamResponse(rows, 42L);
+        payload = objectMapper.writeValueAsBytes(roster);
+
+        System.out.printf("%n[wire-format] format=%s rows=%d payloadBytes=%d bytesPerRow=%.1f%n",
+                format, rows, payload.length, (double) payload.length / rows);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public UpstreamApiResponse<List<EmployeeDTO>> decode() throws IOException {
+        return objectMapper.readValue(payload, ROSTER_TYPE);
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import com.reliaquest.api.client.dto.UpstreamApiResponse;
+import com.reliaquest.api.configuration.WebClientConfiguration;
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * End-to-end {@link EmployeeClient#getAllEmployees()} latency against a loopback server that negotiates the
+ * representation from the Accept header, the same way the mock server's message converters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatRoundTripBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    public EmployeeClientProperties.WireFormat wireFormat;
+
+    @Param({"100000"})
+    public int rows;
+
+    private DisposableServer server;
+    private EmployeeClient employeeClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        UpstreamApiResponse<List<EmployeeDTO>> roster = RosterFixtures.upstreamResponse(rows, 42L);
+        byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(roster);
+        ObjectMapper smileObjectMapper = WebClientConfiguration.smileObjectMapper();
+        byte[] smile = smileObjectMapper.writeValueAsBytes(roster);
+
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/employee", (request, response) -> {
+                    String accept = request.requestHeaders().get(HttpHeaderNames.ACCEPT, "");
+                    boolean smileAccepted = accept.contains(EmployeeClient.APPLICATION_SMILE.toString());
+                    return response.header(
+                                    HttpHeaderNames.CONTENT_TYPE,
+                                    smileAccepted ? EmployeeClient.APPLICATION_SMILE.toString() : "application/json")
+                            .sendByteArray(Mono.just(smileAccepted ? smile : json));
+                }))
+                .bindNow();
+
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.setBaseUri("http://localhost:" + server.port());
+        properties.setWireFormat(wireFormat);
+        employeeClient = new EmployeeClient(
+                new WebClientConfiguration(properties).employeeWebClient(), properties, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> getAllEmployees() {
+        return employeeClient.getAllEmployees();
+    }
+}
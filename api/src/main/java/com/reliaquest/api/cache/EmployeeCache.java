@@ -0,0 +1,125 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.properties.EmployeeCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded per-id cache of employees. Caffeine's W-TinyLFU admission keeps the ids dashboards poll continuously even
+ * when a scan of one-off lookups passes through. Upstream 404s are cached too, for {@code negative-ttl}. Concurrent
+ * misses on one id share a single upstream call. Hit, miss and eviction counts are published as {@code cache.*}
+ * metrics tagged {@code cache=employee}.
+ */
+@Component
+@Slf4j
+public class EmployeeCache {
+
+    private static final Entry NOT_FOUND = new Entry(null);
+
+    private final Cache<String, Entry> cache;
+
+    public EmployeeCache(EmployeeCacheProperties employeeCacheProperties, MeterRegistry meterRegistry) {
+        if (!employeeCacheProperties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (employeeCacheProperties.getMaximumWeight() != null) {
+            builder.maximumWeight(employeeCacheProperties.getMaximumWeight().toBytes())
+                    .weigher((String id, Entry entry) -> entry.estimatedBytes(id));
+        } else {
+            builder.maximumSize(employeeCacheProperties.getMaximumSize());
+        }
+        this.cache = CaffeineCacheMetrics.monitor(
+                meterRegistry, builder.expireAfter(new EntryExpiry(employeeCacheProperties)).build(), "employee");
+    }
+
+    /** Cached employee for {@code id}, loading it with {@code loader} on a miss. A cached 404 is thrown as such. */
+    public Employee get(String id, Supplier<Employee> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+
+        Entry entry = cache.get(id, ignored -> load(id, loader));
+        if (entry.employee() == null) {
+            throw UpstreamException.NOT_FOUND;
+        }
+        return entry.employee();
+    }
+
+    public void put(Employee employee) {
+        if (cache != null && employee != null && employee.getId() != null) {
+            cache.put(employee.getId(), new Entry(employee));
+        }
+    }
+
+    public void invalidate(String id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private static Entry load(String id, Supplier<Employee> loader) {
+        try {
+            return new Entry(loader.get());
+        } catch (UpstreamException ex) {
+            if (ex.getStatus() != HttpStatus.NOT_FOUND) {
+                throw ex;
+            }
+            log.debug("Caching upstream 404 for employee id={}", id);
+            return NOT_FOUND;
+        }
+    }
+
+    private record Entry(Employee employee) {
+
+        // Rough retained size: object headers and references plus two bytes per string character.
+        int estimatedBytes(String id) {
+            int chars = id.length();
+            if (employee != null) {
+                chars += length(employee.getName()) + length(employee.getTitle()) + length(employee.getEmail());
+            }
+            return 128 + 2 * chars;
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private EntryExpiry(EmployeeCacheProperties employeeCacheProperties) {
+            this.ttlNanos = employeeCacheProperties.getTtl().toNanos();
+            this.negativeTtlNanos = employeeCacheProperties.getNegativeTtl().toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String id, Entry entry, long currentTime) {
+            return entry.employee() == null ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.properties.IdempotencyProperties;
+import com.reliaquest.api.web.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Bounded, expiring store of creates by {@code Idempotency-Key}. The first request with a key runs the create; a repeat
+ * with the same body gets the employee it created, and a repeat that arrives while it is still running waits for it
+ * instead of going upstream. A failed create is forgotten, so it can be retried with the same key. Reusing a key for a
+ * different body is a 422.
+ */
+@Component
+@Slf4j
+public class IdempotencyCache {
+
+    private final Cache<String, Entry> cache;
+
+    public IdempotencyCache(IdempotencyProperties idempotencyProperties, MeterRegistry meterRegistry) {
+        if (!idempotencyProperties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(idempotencyProperties.getMaximumSize())
+                        .expireAfterWrite(idempotencyProperties.getTtl())
+                        .recordStats()
+                        .build(),
+                "idempotency");
+    }
+
+    /** Result of the create for {@code key}, running {@code create} only if no create for it has run or is running. */
+    public Employee get(String key, Object request, Supplier<Employee> create) {
+        if (cache == null || key == null) {
+            return create.get();
+        }
+
+        Entry entry = new Entry(request, new CompletableFuture<>());
+        Entry existing = cache.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            cache.getIfPresent(key); // Counted as a hit.
+            if (!Objects.equals(existing.request(), request)) {
+                throw new ResponseStatusException(
+                        HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request");
+            }
+            log.debug("Replaying create for Idempotency-Key={}", key);
+            return await(existing.result());
+        }
+
+        try {
+            Employee employee = create.get();
+            entry.result().complete(employee);
+            return employee;
+        } catch (RuntimeException ex) {
+            cache.asMap().remove(key, entry);
+            entry.result().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    // Waits no longer than the request deadline; the create keeps running for whoever retries next.
+    private static Employee await(CompletableFuture<Employee> result) {
+        try {
+            Duration remaining = RequestDeadline.remaining().orElse(null);
+            if (remaining == null) {
+                return result.get();
+            }
+            return result.get(Math.max(remaining.toNanos(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw UpstreamException.TIMEOUT;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Create failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw UpstreamException.TIMEOUT;
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Employee> result) {}
+}
@@ -2,11 +2,22 @@ package com.reliaquest.api.client;
 
 import com.reliaquest.api.client.dto.EmployeeDTO;
 import com.reliaquest.api.client.dto.UpstreamApiResponse;
+import com.reliaquest.api.client.dto.UpstreamChangeFeed;
 import com.reliaquest.api.client.dto.UpstreamDeleteEmployeeRequest;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
-import java.time.Duration;
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.logging.SampledLogger;
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -18,182 +29,215 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.server.ResponseStatusException;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class EmployeeClient {
 
-    private final WebClient webClient;
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
-    public EmployeeClient(@Qualifier("employeeWebClient") WebClient webClient) {
-        this.webClient = webClient;
+    // One sampler per failure kind, keyed by operation.
+    private static final SampledLogger rateLimitedLog = new SampledLogger(log, 5);
+    private static final SampledLogger upstreamErrorLog = new SampledLogger(log, 5);
+    private static final SampledLogger requestFailedLog = new SampledLogger(log, 5);
+    private static final SampledLogger emptyResponseLog = new SampledLogger(log, 5);
+
+    private final UpstreamBalancer upstreamBalancer;
+    private final MediaType[] acceptedMediaTypes;
+    private final RequestHedger getByIdHedger;
+    private final int rosterShards;
+
+    public EmployeeClient(
+            @Qualifier("employeeWebClient") WebClient webClient,
+            EmployeeClientProperties employeeClientProperties,
+            MeterRegistry meterRegistry) {
+        this.upstreamBalancer = new UpstreamBalancer(upstreams(webClient, employeeClientProperties));
+        this.getByIdHedger = new RequestHedger(employeeClientProperties.getHedge(), meterRegistry, "getById");
+        this.acceptedMediaTypes = acceptedMediaTypes(employeeClientProperties.getWireFormat());
+        this.rosterShards = Math.max(employeeClientProperties.getRosterShards(), 1);
+    }
+
+    // The configured client already points at baseUri; each listed upstream gets a copy pointing at its own.
+    static List<Upstream> upstreams(WebClient webClient, EmployeeClientProperties employeeClientProperties) {
+        if (CollectionUtils.isEmpty(employeeClientProperties.getUpstreams())) {
+            return List.of(new Upstream(employeeClientProperties.getBaseUri(), webClient, employeeClientProperties));
+        }
+        return employeeClientProperties.getUpstreams().stream()
+                .map(uri -> new Upstream(uri, webClient.mutate().baseUrl(uri).build(), employeeClientProperties))
+                .toList();
+    }
+
+    // JSON stays acceptable at a lower quality so an upstream without the binary converter still answers.
+    static MediaType[] acceptedMediaTypes(EmployeeClientProperties.WireFormat wireFormat) {
+        if (wireFormat == EmployeeClientProperties.WireFormat.SMILE) {
+            return new MediaType[] {APPLICATION_SMILE, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.5"))};
+        }
+        return new MediaType[] {MediaType.APPLICATION_JSON};
     }
 
     public List<EmployeeDTO> getAllEmployees() {
         try {
-            UpstreamApiResponse<List<EmployeeDTO>> response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder.path("/employee").build())
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<List<EmployeeDTO>>>() {})
-                    .retryWhen(Retry.backoff(3, Duration.ofMillis(200))
-                            .maxBackoff(Duration.ofSeconds(2))
-                            .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests)
-                            .doBeforeRetry(retrySignal -> log.warn(
-                                    "Retrying GET /employee due to 429 (attempt {} of 3). Cause={}",
-                                    retrySignal.totalRetries() + 1,
-                                    retrySignal.failure().toString())))
+            List<EmployeeDTO> employees;
+            if (rosterShards == 1) {
+                employees = rosterShard(null).block();
+            } else {
+                // Merged by id, so an upstream that ignores the shard parameters only costs duplicate downloads.
+                Map<String, EmployeeDTO> byId = Flux.mergeSequential(IntStream.range(0, rosterShards)
+                                .mapToObj(this::rosterShard)
+                                .toList())
+                        .flatMapIterable(Function.identity())
+                        .collectMap(EmployeeDTO::getId, Function.identity(), LinkedHashMap::new)
+                        .block();
+                employees = Objects.isNull(byId) ? null : new ArrayList<>(byId.values());
+            }
+
+            if (CollectionUtils.isEmpty(employees)) {
+                throw emptyResponse("getAllEmployees");
+            }
+
+            return employees;
+
+        } catch (WebClientResponseException ex) {
+            throw upstreamFailure("getAllEmployees", null, ex);
+        } catch (WebClientRequestException ex) {
+            throw upstreamFailure("getAllEmployees", null, ex);
+        }
+    }
+
+    public EmployeeDTO getByEmployeeId(String id) {
+        try {
+            Upstream first = upstreamBalancer.choose();
+            // Read here on the request thread: the hedge is subscribed from a timer, outside the request's deadline.
+            long deadlineNanos = first.getBackoff().deadlineNanos();
+            UpstreamApiResponse<EmployeeDTO> response = getByIdHedger
+                    .hedge(
+                            getById(first, id, deadlineNanos),
+                            Mono.defer(() -> getById(upstreamBalancer.chooseOther(first), id, deadlineNanos)))
                     .block();
 
             if (Objects.isNull(response)) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned empty response for getAllEmployees");
+                throw emptyResponse("getEmployeeById");
             }
 
-            log.debug(
-                    "Upstream GET /employee returned status='{}' with {} records",
-                    response.getStatus(),
-                    !CollectionUtils.isEmpty(response.getData())
-                            ? response.getData().size()
-                            : 0);
+            log.debug("Upstream GET /employee/{} returned status='{}'", id, response.getStatus());
 
-            if (CollectionUtils.isEmpty(response.getData())) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Upstream returned null data");
+            if (Objects.isNull(response.getData())) {
+                throw emptyResponse("getEmployeeById");
             }
 
             return response.getData();
 
         } catch (WebClientResponseException ex) {
-            log.error(
-                    "Upstream error during getAllEmployees. status={}, body={}",
-                    ex.getStatusCode(),
-                    ex.getResponseBodyAsString(),
-                    ex);
-            throw ex;
+            throw upstreamFailure("getEmployeeById", id, ex);
         } catch (WebClientRequestException ex) {
-            log.error("Upstream request failed during getAllEmployees", ex);
-            throw ex;
+            throw upstreamFailure("getEmployeeById", id, ex);
         }
     }
 
-    public EmployeeDTO getByEmployeeId(String id) {
+    public UpstreamChangeFeed getChanges(long since, int limit) {
         try {
-            UpstreamApiResponse<EmployeeDTO> response = webClient
+            Upstream upstream = upstreamBalancer.choose();
+            UpstreamApiResponse<UpstreamChangeFeed> response = upstream.getWebClient()
                     .get()
-                    .uri(uriBuilder -> uriBuilder.path("/employee/{id}").build(id))
-                    .accept(MediaType.APPLICATION_JSON)
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/employee/changes")
+                            .queryParam("since", since)
+                            .queryParam("limit", limit)
+                            .build())
+                    .accept(acceptedMediaTypes)
                     .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<EmployeeDTO>>() {})
-                    .retryWhen(Retry.backoff(3, Duration.ofMillis(200))
-                            .maxBackoff(Duration.ofSeconds(2))
-                            .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests)
-                            .doBeforeRetry(retrySignal -> log.warn(
-                                    "Retrying getEmployeeById id={} due to 429 (attempt {} of 3). Cause={}",
-                                    id,
-                                    retrySignal.totalRetries() + 1,
-                                    retrySignal.failure().toString())))
+                    .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<UpstreamChangeFeed>>() {})
+                    .transform(upstream::tracked)
+                    .transform(upstream.forCall("GET /employee/changes since=" + since))
                     .block();
 
-            if (Objects.isNull(response)) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned empty response for getEmployeeById");
+            if (Objects.isNull(response) || Objects.isNull(response.getData())) {
+                throw emptyResponse("getChanges");
             }
 
-            log.debug("Upstream GET /employee/{} returned status='{}'", id, response.getStatus());
-
-            if (Objects.isNull(response.getData())) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned null data for getEmployeeById");
+            UpstreamChangeFeed changeFeed = response.getData();
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Upstream GET /employee/changes since={} returned {} changes, latestSequence={}, "
+                                + "resyncRequired={}",
+                        since,
+                        CollectionUtils.isEmpty(changeFeed.getChanges())
+                                ? 0
+                                : changeFeed.getChanges().size(),
+                        changeFeed.getLatestSequence(),
+                        changeFeed.isResyncRequired());
             }
 
-            return response.getData();
+            return changeFeed;
 
         } catch (WebClientResponseException ex) {
-            log.error(
-                    "Upstream error during getEmployeeById. id={}, status={}, body={}",
-                    id,
-                    ex.getStatusCode(),
-                    ex.getResponseBodyAsString(),
-                    ex);
-            throw ex;
+            throw upstreamFailure("getChanges", since, ex);
         } catch (WebClientRequestException ex) {
-            log.error("Upstream request failed during getEmployeeById. id={}", id, ex);
-            throw ex;
+            throw upstreamFailure("getChanges", since, ex);
         }
     }
 
-    public EmployeeDTO createEmployee(CreateEmployeeRequest createEmployeeRequest) {
+    /**
+     * Creates the employee upstream under {@code idempotencyKey}, or a fresh key when it is null, so that upstream
+     * creates it only once however often the call is retried.
+     */
+    public EmployeeDTO createEmployee(CreateEmployeeRequest createEmployeeRequest, String idempotencyKey) {
+        // Set once, so the 429 retries below repeat the same key.
+        String key = Objects.requireNonNullElseGet(idempotencyKey, () -> UUID.randomUUID().toString());
         try {
-            UpstreamApiResponse<EmployeeDTO> response = webClient
+            Upstream upstream = upstreamBalancer.choose();
+            UpstreamApiResponse<EmployeeDTO> response = upstream.getWebClient()
                     .post()
                     .uri(uriBuilder -> uriBuilder.path("/employee").build())
+                    .header(IDEMPOTENCY_KEY, key)
                     .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
+                    .accept(acceptedMediaTypes)
                     .bodyValue(createEmployeeRequest)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<EmployeeDTO>>() {})
-                    .retryWhen(Retry.backoff(3, Duration.ofMillis(200))
-                            .maxBackoff(Duration.ofSeconds(2))
-                            .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests)
-                            .doBeforeRetry(retrySignal -> log.warn(
-                                    "Retrying POST /employee due to 429 (attempt {} of 3). Cause={}",
-                                    retrySignal.totalRetries() + 1,
-                                    retrySignal.failure().toString())))
+                    .transform(upstream::tracked)
+                    .transform(upstream.forCall("POST /employee"))
                     .block();
 
             if (Objects.isNull(response)) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned empty response for createEmployee");
+                throw emptyResponse("createEmployee");
             }
 
             log.debug("Upstream POST /employee returned status='{}'", response.getStatus());
 
             if (Objects.isNull(response.getData())) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned null data for createEmployee");
+                throw emptyResponse("createEmployee");
             }
 
             return response.getData();
 
         } catch (WebClientResponseException ex) {
-            log.error(
-                    "Upstream error during createEmployee. status={}, body={}",
-                    ex.getStatusCode(),
-                    ex.getResponseBodyAsString(),
-                    ex);
-            throw ex;
+            throw upstreamFailure("createEmployee", null, ex);
         } catch (WebClientRequestException ex) {
-            log.error("Upstream request failed during createEmployee", ex);
-            throw ex;
+            throw upstreamFailure("createEmployee", null, ex);
         }
     }
 
     public boolean deleteEmployeeByName(UpstreamDeleteEmployeeRequest upstreamDeleteEmployeeRequest) {
         try {
-            UpstreamApiResponse<Boolean> response = webClient
+            Upstream upstream = upstreamBalancer.choose();
+            UpstreamApiResponse<Boolean> response = upstream.getWebClient()
                     .method(HttpMethod.DELETE)
                     .uri(uriBuilder -> uriBuilder.path("/employee").build())
                     .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
+                    .accept(acceptedMediaTypes)
                     .bodyValue(upstreamDeleteEmployeeRequest)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<Boolean>>() {})
-                    .retryWhen(Retry.backoff(3, Duration.ofMillis(200))
-                            .maxBackoff(Duration.ofSeconds(2))
-                            .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests)
-                            .doBeforeRetry(retrySignal -> log.warn(
-                                    "Retrying DELETE /employee due to 429 (attempt {} of 3). name={}, cause={}",
-                                    retrySignal.totalRetries() + 1,
-                                    upstreamDeleteEmployeeRequest.getName(),
-                                    retrySignal.failure().toString())))
+                    .transform(upstream::tracked)
+                    .transform(upstream.forCall("DELETE /employee"))
                     .block();
 
             if (Objects.isNull(response)) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned empty response for deleteEmployeeByName");
+                throw emptyResponse("deleteEmployeeByName");
             }
 
             log.debug(
@@ -202,26 +246,98 @@ public class EmployeeClient {
                     upstreamDeleteEmployeeRequest.getName());
 
             if (Objects.isNull(response.getData())) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY, "Upstream returned null data for deleteEmployeeByName");
+                throw emptyResponse("deleteEmployeeByName");
             }
 
             return response.getData();
 
         } catch (WebClientResponseException ex) {
-            log.error(
-                    "Upstream error during deleteEmployeeByName. name={}, status={}, body={}",
-                    upstreamDeleteEmployeeRequest.getName(),
-                    ex.getStatusCode(),
-                    ex.getResponseBodyAsString(),
-                    ex);
-            throw ex;
+            throw upstreamFailure("deleteEmployeeByName", upstreamDeleteEmployeeRequest.getName(), ex);
         } catch (WebClientRequestException ex) {
-            log.error(
-                    "Upstream request failed during deleteEmployeeByName. name={}",
-                    upstreamDeleteEmployeeRequest.getName(),
-                    ex);
-            throw ex;
+            throw upstreamFailure("deleteEmployeeByName", upstreamDeleteEmployeeRequest.getName(), ex);
         }
     }
+
+    // One attempt with its own retries against one upstream; a hedge is a second attempt, usually against another.
+    private Mono<UpstreamApiResponse<EmployeeDTO>> getById(Upstream upstream, String id, long deadlineNanos) {
+        return upstream.getWebClient()
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/employee/{id}").build(id))
+                .accept(acceptedMediaTypes)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<EmployeeDTO>>() {})
+                .transform(upstream::tracked)
+                .transform(upstream.forCall("GET /employee/" + id, deadlineNanos));
+    }
+
+    // Each shard picks its own upstream when subscribed; a null shard asks for the whole roster.
+    private Mono<List<EmployeeDTO>> rosterShard(Integer shard) {
+        String operation = Objects.isNull(shard) ? "GET /employee" : "GET /employee shard=" + shard;
+        return Mono.defer(() -> {
+            Upstream upstream = upstreamBalancer.choose();
+            return upstream.getWebClient()
+                    .get()
+                    .uri(uriBuilder -> Objects.isNull(shard)
+                            ? uriBuilder.path("/employee").build()
+                            : uriBuilder
+                                    .path("/employee")
+                                    .queryParam("shard", shard)
+                                    .queryParam("shards", rosterShards)
+                                    .build())
+                    .accept(acceptedMediaTypes)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<UpstreamApiResponse<List<EmployeeDTO>>>() {})
+                    .transform(upstream::tracked)
+                    .transform(upstream.forCall(operation))
+                    .map(response -> {
+                        if (log.isDebugEnabled()) {
+                            log.debug(
+                                    "Upstream {} GET /employee shard={} returned status='{}' with {} records",
+                                    upstream.getName(),
+                                    shard,
+                                    response.getStatus(),
+                                    !CollectionUtils.isEmpty(response.getData())
+                                            ? response.getData().size()
+                                            : 0);
+                        }
+                        return Objects.requireNonNullElse(response.getData(), List.<EmployeeDTO>of());
+                    });
+        });
+    }
+
+    // Expected outcomes become shared stackless exceptions; anything else keeps upstream's status and body.
+    private static RuntimeException upstreamFailure(String operation, Object detail, WebClientResponseException ex) {
+        int status = ex.getStatusCode().value();
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            log.debug("Upstream 404 during {}. detail={}", operation, detail);
+            return UpstreamException.NOT_FOUND;
+        }
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            rateLimitedLog.warn(operation, "Upstream rate limited {}. detail={}", operation, detail);
+            return UpstreamException.RATE_LIMITED;
+        }
+        upstreamErrorLog.error(
+                operation,
+                "Upstream error during {}. detail={}, status={}, body={}",
+                operation,
+                detail,
+                status,
+                (Supplier<String>) ex::getResponseBodyAsString);
+        return ex;
+    }
+
+    private static RuntimeException upstreamFailure(String operation, Object detail, WebClientRequestException ex) {
+        requestFailedLog.warn(
+                operation,
+                "Upstream request failed during {}. detail={}, cause={}",
+                operation,
+                detail,
+                ex.getMostSpecificCause().toString());
+        return UpstreamException.UNAVAILABLE;
+    }
+
+    private static UpstreamException emptyResponse(String operation) {
+        emptyResponseLog.warn(operation, "Upstream returned no data for {}", operation);
+        return UpstreamException.EMPTY_RESPONSE;
+    }
 }
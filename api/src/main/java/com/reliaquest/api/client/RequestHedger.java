@@ -0,0 +1,156 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hedges an idempotent upstream call: when the first attempt has not answered after the recent latency percentile, an
+ * identical second attempt is sent, the first to succeed wins and the other is cancelled. An attempt's error only
+ * surfaces once no other attempt is left, so a quick 429 on the hedge cannot fail a first attempt that is still
+ * running. Every call deposits {@code maxRatio} of a hedge into a budget and every hedge withdraws a whole one, so
+ * hedges stay within that share of traffic. Outcomes are counted in {@code employee.client.hedges}: won when the hedge
+ * answered first, lost otherwise; win rate is won / (won + lost).
+ */
+class RequestHedger {
+
+    private static final long HEDGE = 1_000;
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final EmployeeClientProperties.Hedge hedge;
+    private final Timer latency;
+    private final Counter won;
+    private final Counter lost;
+    private final Counter budgetExhausted;
+    private final long depositPerCall;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+    private volatile long delayNanos;
+    private volatile long delayComputedAtNanos;
+
+    RequestHedger(EmployeeClientProperties.Hedge hedge, MeterRegistry meterRegistry, String operation) {
+        this.hedge = hedge;
+        this.latency = Timer.builder("employee.client.latency")
+                .tag("operation", operation)
+                .publishPercentiles(hedge.getDelayPercentile())
+                .distributionStatisticExpiry(hedge.getWindow())
+                .register(meterRegistry);
+        this.won = hedgeCounter(meterRegistry, operation, "won");
+        this.lost = hedgeCounter(meterRegistry, operation, "lost");
+        this.budgetExhausted = hedgeCounter(meterRegistry, operation, "budget_exhausted");
+        this.depositPerCall = Math.round(hedge.getMaxRatio() * HEDGE);
+        this.maxBalance = hedge.getMaxBurst() * HEDGE;
+        this.delayNanos = hedge.getInitialDelay().toNanos();
+        this.delayComputedAtNanos = System.nanoTime();
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Counter.builder("employee.client.hedges")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to {@code first} and, once the hedge delay has passed without an answer and the budget allows, to
+     * {@code second}. The two are the same request, possibly built against different endpoints.
+     */
+    <T> Mono<T> hedge(Mono<T> first, Mono<T> second) {
+        if (!hedge.isEnabled()) {
+            return first;
+        }
+        return Mono.defer(() -> {
+            deposit(depositPerCall);
+            AtomicInteger running = new AtomicInteger(1);
+            AtomicBoolean hedgeSent = new AtomicBoolean();
+            AtomicBoolean settled = new AtomicBoolean();
+
+            Mono<T> primary = attempt(first, running)
+                    .doOnSuccess(ignored -> settle(settled, hedgeSent.get() ? lost : null))
+                    .doOnError(ignored -> settle(settled, hedgeSent.get() ? lost : null));
+            Mono<T> hedged = Mono.delay(delay()).flatMap(ignored -> {
+                if (!tryWithdraw()) {
+                    budgetExhausted.increment();
+                    return Mono.<T>never();
+                }
+                if (!join(running)) {
+                    // The first attempt has already failed and is surfacing its error.
+                    deposit(HEDGE);
+                    return Mono.<T>never();
+                }
+                hedgeSent.set(true);
+                return attempt(second, running)
+                        .doOnSuccess(value -> settle(settled, won))
+                        .doOnError(ex -> settle(settled, lost));
+            });
+            return Mono.firstWithSignal(primary, hedged);
+        });
+    }
+
+    // Errors are held back while another attempt is still running; the last attempt to fail surfaces its error.
+    private <T> Mono<T> attempt(Mono<T> call, AtomicInteger running) {
+        return timed(call).onErrorResume(ex -> running.decrementAndGet() == 0 ? Mono.<T>error(ex) : Mono.<T>never());
+    }
+
+    private static boolean join(AtomicInteger running) {
+        int current;
+        do {
+            current = running.get();
+            if (current == 0) {
+                return false;
+            }
+        } while (!running.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doOnSuccess(ignored -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static void settle(AtomicBoolean settled, Counter outcome) {
+        if (settled.compareAndSet(false, true) && outcome != null) {
+            outcome.increment();
+        }
+    }
+
+    private void deposit(long amount) {
+        balance.accumulateAndGet(amount, (current, deposit) -> Math.min(current + deposit, maxBalance));
+    }
+
+    private boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < HEDGE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - HEDGE));
+        return true;
+    }
+
+    // Percentile snapshots allocate, so the delay is recomputed at most once a second.
+    private Duration delay() {
+        long now = System.nanoTime();
+        if (now - delayComputedAtNanos > DELAY_REFRESH_NANOS) {
+            HistogramSnapshot snapshot = latency.takeSnapshot();
+            ValueAtPercentile[] percentiles = snapshot.percentileValues();
+            delayNanos = snapshot.count() < hedge.getMinSamples() || percentiles.length == 0
+                    ? hedge.getInitialDelay().toNanos()
+                    : Math.max((long) percentiles[0].value(TimeUnit.NANOSECONDS), hedge.getMinDelay().toNanos());
+            delayComputedAtNanos = now;
+        }
+        return Duration.ofNanos(delayNanos);
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * One upstream endpoint with its own {@link UpstreamBackoff}, so a 429 from one replica holds back only calls to that
+ * replica, and the load and health figures {@link UpstreamBalancer} chooses by: requests in flight, a latency EWMA and
+ * consecutive failures. After {@code ejectAfter} connection failures or 5xx responses in a row the endpoint is passed
+ * over for {@code ejectFor}.
+ */
+@Slf4j
+class Upstream {
+
+    private static final long UNSET = -1;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final WebClient webClient;
+
+    @Getter
+    private final UpstreamBackoff backoff;
+
+    private final EmployeeClientProperties.Balancing balancing;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyEwmaNanos = new AtomicLong(UNSET);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long ejectedUntilNanos = Long.MIN_VALUE;
+
+    Upstream(String name, WebClient webClient, EmployeeClientProperties properties) {
+        this(
+                name,
+                webClient,
+                new UpstreamBackoff(properties.getBackoff()),
+                properties.getBalancing(),
+                System::nanoTime);
+    }
+
+    Upstream(
+            String name,
+            WebClient webClient,
+            UpstreamBackoff backoff,
+            EmployeeClientProperties.Balancing balancing,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.webClient = webClient.mutate().filter(backoff.rateLimitObserver()).build();
+        this.backoff = backoff;
+        this.balancing = balancing;
+        this.nanoClock = nanoClock;
+    }
+
+    /** Counts one attempt against this endpoint's load and health; wrap it before retries and hedges. */
+    <T> Mono<T> tracked(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            inFlight.incrementAndGet();
+            long start = nanoClock.getAsLong();
+            return attempt.doOnSuccess(ignored -> succeeded(nanoClock.getAsLong() - start))
+                    .doOnError(this::failed)
+                    .doFinally(ignored -> inFlight.decrementAndGet());
+        });
+    }
+
+    /** {@link UpstreamBackoff#forCall} against this endpoint's rate limit state. */
+    <T> Function<Mono<T>, Mono<T>> forCall(String operation) {
+        return backoff.forCall(operation);
+    }
+
+    /** {@link UpstreamBackoff#forCall(String, long)} against this endpoint's rate limit state. */
+    <T> Function<Mono<T>, Mono<T>> forCall(String operation, long deadlineNanos) {
+        return backoff.forCall(operation, deadlineNanos);
+    }
+
+    boolean isAvailable() {
+        return ejectedUntilNanos <= nanoClock.getAsLong() && backoff.isOpen();
+    }
+
+    long load() {
+        long inFlightNow = inFlight.get();
+        if (balancing.getStrategy() == EmployeeClientProperties.Strategy.LATENCY_EWMA) {
+            // Unmeasured endpoints count as free so that they get probed.
+            return Math.max(latencyEwmaNanos.get(), 0) * (inFlightNow + 1);
+        }
+        return inFlightNow;
+    }
+
+    private void succeeded(long latencyNanos) {
+        consecutiveFailures.set(0);
+        double weight = balancing.getEwmaWeight();
+        latencyEwmaNanos.accumulateAndGet(
+                latencyNanos,
+                (current, sample) -> current == UNSET ? sample : current + (long) ((sample - current) * weight));
+    }
+
+    private void failed(Throwable failure) {
+        boolean unhealthy = failure instanceof WebClientRequestException
+                || (failure instanceof WebClientResponseException ex && ex.getStatusCode().is5xxServerError());
+        if (!unhealthy) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= balancing.getEjectAfter()) {
+            consecutiveFailures.set(0);
+            Duration ejectFor = balancing.getEjectFor();
+            ejectedUntilNanos = nanoClock.getAsLong() + ejectFor.toNanos();
+            log.warn("Passing over upstream {} for {} ms after repeated failures", name, ejectFor.toMillis());
+        }
+    }
+}
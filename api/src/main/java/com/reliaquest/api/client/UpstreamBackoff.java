@@ -0,0 +1,215 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.logging.SampledLogger;
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import com.reliaquest.api.web.RequestDeadline;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Paces upstream calls by what upstream says about its rate limit instead of a blind exponential schedule. A
+ * {@code Retry-After} on a 429, or {@code RateLimit-Reset} once {@code RateLimit-Remaining} hits zero, closes upstream
+ * until then. A call waits exactly that long when it fits in its latency budget and otherwise fails fast with the hint.
+ * Without a hint, 429s fall back to jittered exponential backoff.
+ */
+@Slf4j
+class UpstreamBackoff {
+
+    static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    private static final long OPEN = Long.MIN_VALUE;
+    private static final SampledLogger sampledLog = new SampledLogger(log, 5);
+
+    private final EmployeeClientProperties.Backoff backoff;
+    private final LongSupplier nanoClock;
+    private final AtomicLong closedUntilNanos = new AtomicLong(OPEN);
+
+    UpstreamBackoff(EmployeeClientProperties.Backoff backoff) {
+        this(backoff, System::nanoTime);
+    }
+
+    UpstreamBackoff(EmployeeClientProperties.Backoff backoff, LongSupplier nanoClock) {
+        this.backoff = backoff;
+        this.nanoClock = nanoClock;
+    }
+
+    /** Watches every upstream response, successful or not, for rate limit hints. */
+    ExchangeFilterFunction rateLimitObserver() {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            observe(response.statusCode(), response.headers().asHttpHeaders());
+            return Mono.just(response);
+        });
+    }
+
+    void observe(HttpStatusCode status, HttpHeaders headers) {
+        hint(status, headers).ifPresent(wait -> {
+            long until = nanoClock.getAsLong() + wait.toNanos();
+            closedUntilNanos.accumulateAndGet(
+                    until, (current, next) -> current == OPEN ? next : Math.max(current, next));
+        });
+    }
+
+    /** Whether a call sent now would go straight out rather than wait for a rate limit to reset. */
+    boolean isOpen() {
+        long closedUntil = closedUntilNanos.get();
+        return closedUntil == OPEN || closedUntil <= nanoClock.getAsLong();
+    }
+
+    /**
+     * Applies the wait-for-upstream, retry and deadline policy to one upstream call. The budget is read when the call
+     * is subscribed, which for blocking callers is on the request thread.
+     */
+    <T> Function<Mono<T>, Mono<T>> forCall(String operation) {
+        return call -> Mono.defer(() -> {
+            Duration budget = budget();
+            return withDeadline(operation, call, nanoClock.getAsLong() + budget.toNanos(), budget);
+        });
+    }
+
+    /** {@link #forCall(String)} against a deadline read earlier, for attempts subscribed off the request thread. */
+    <T> Function<Mono<T>, Mono<T>> forCall(String operation, long deadlineNanos) {
+        return call -> Mono.defer(() -> withDeadline(
+                operation, call, deadlineNanos, Duration.ofNanos(Math.max(deadlineNanos - nanoClock.getAsLong(), 0))));
+    }
+
+    /** When a call made now on this thread has to have answered by, on this backoff's clock. */
+    long deadlineNanos() {
+        return nanoClock.getAsLong() + budget().toNanos();
+    }
+
+    private <T> Mono<T> withDeadline(String operation, Mono<T> call, long deadlineNanos, Duration budget) {
+        return waitUntilOpen(operation, deadlineNanos)
+                .then(call)
+                .retryWhen(Retry.from(
+                        signals -> signals.concatMap(signal -> nextAttempt(operation, signal, deadlineNanos))))
+                .timeout(budget)
+                .onErrorMap(TimeoutException.class, ex -> {
+                    sampledLog.warn("timeout", "Upstream did not answer {} within {}", operation, budget);
+                    return UpstreamException.TIMEOUT;
+                });
+    }
+
+    private Duration budget() {
+        Duration budget = backoff.getLatencyBudget();
+        return RequestDeadline.remaining()
+                .filter(remaining -> remaining.compareTo(budget) < 0)
+                .map(remaining -> remaining.isNegative() ? Duration.ZERO : remaining)
+                .orElse(budget);
+    }
+
+    private Mono<Void> waitUntilOpen(String operation, long deadlineNanos) {
+        long now = nanoClock.getAsLong();
+        long closedUntil = closedUntilNanos.get();
+        if (closedUntil == OPEN || closedUntil <= now) {
+            return Mono.empty();
+        }
+        Duration wait = Duration.ofNanos(closedUntil - now);
+        if (closedUntil > deadlineNanos) {
+            return Mono.error(rateLimited(operation, wait));
+        }
+        log.debug("Holding {} for {} ms until upstream's rate limit resets", operation, wait.toMillis());
+        return Mono.delay(wait).then();
+    }
+
+    private Mono<Long> nextAttempt(String operation, Retry.RetrySignal signal, long deadlineNanos) {
+        Throwable failure = signal.failure();
+        if (!(failure instanceof WebClientResponseException ex) || !retryable(ex)) {
+            return Mono.error(failure);
+        }
+        long retries = signal.totalRetries();
+        Optional<Duration> hint = hint(ex.getStatusCode(), ex.getHeaders());
+        if (retries >= backoff.getMaxRetries()) {
+            return Mono.error(hint.<Throwable>map(wait -> rateLimited(operation, wait))
+                    .orElse(failure));
+        }
+        Duration wait = hint.orElseGet(() -> exponential(retries));
+        if (nanoClock.getAsLong() + wait.toNanos() > deadlineNanos) {
+            return Mono.error(rateLimited(operation, wait));
+        }
+        log.warn(
+                "Retrying {} in {} ms due to {} (attempt {} of {})",
+                operation,
+                wait.toMillis(),
+                ex.getStatusCode().value(),
+                retries + 1,
+                backoff.getMaxRetries());
+        return Mono.delay(wait).thenReturn(retries);
+    }
+
+    private static UpstreamRateLimitedException rateLimited(String operation, Duration wait) {
+        sampledLog.warn(
+                "rate-limited",
+                "Upstream rate limited {}; failing fast, retry after {} ms",
+                operation,
+                wait.toMillis());
+        return new UpstreamRateLimitedException(wait);
+    }
+
+    private static boolean retryable(WebClientResponseException ex) {
+        return ex.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || (ex.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                        && ex.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+    }
+
+    private Duration exponential(long retries) {
+        long minMillis = backoff.getMinBackoff().toMillis();
+        long millis = Math.min(minMillis << Math.min(retries, 20), backoff.getMaxBackoff().toMillis());
+        return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+    }
+
+    static Optional<Duration> hint(HttpStatusCode status, HttpHeaders headers) {
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            Optional<Duration> retryAfter = retryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+            if (retryAfter.isPresent()) {
+                return retryAfter;
+            }
+        }
+        if ("0".equals(headers.getFirst(RATE_LIMIT_REMAINING))) {
+            return seconds(headers.getFirst(RATE_LIMIT_RESET));
+        }
+        return Optional.empty();
+    }
+
+    // Retry-After is either delta-seconds or an HTTP-date.
+    private static Optional<Duration> retryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        if (NumberUtils.isDigits(value.trim())) {
+            return seconds(value);
+        }
+        try {
+            Duration wait = Duration.between(
+                    ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+        } catch (DateTimeParseException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> seconds(String value) {
+        long seconds = NumberUtils.toLong(value == null ? null : value.trim(), -1);
+        return seconds < 0 ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+    }
+}
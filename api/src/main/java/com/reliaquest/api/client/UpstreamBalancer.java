@@ -0,0 +1,52 @@
+package com.reliaquest.api.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks an {@link Upstream} per call by power of two choices: two endpoints are drawn at random and the less loaded one
+ * gets the call, which spreads load nearly as well as always taking the least loaded without every caller herding onto
+ * the same endpoint. Ejected and rate limited endpoints are passed over while any other is available.
+ */
+class UpstreamBalancer {
+
+    private final List<Upstream> upstreams;
+
+    UpstreamBalancer(List<Upstream> upstreams) {
+        if (upstreams.isEmpty()) {
+            throw new IllegalArgumentException("At least one upstream is required");
+        }
+        this.upstreams = List.copyOf(upstreams);
+    }
+
+    Upstream choose() {
+        if (upstreams.size() == 1) {
+            return upstreams.get(0);
+        }
+        List<Upstream> candidates = upstreams.stream().filter(Upstream::isAvailable).toList();
+        return pick(candidates.isEmpty() ? upstreams : candidates);
+    }
+
+    /** Like {@link #choose()}, but passes over {@code other} while another endpoint is available, e.g. for a hedge. */
+    Upstream chooseOther(Upstream other) {
+        List<Upstream> candidates = upstreams.stream()
+                .filter(upstream -> upstream != other && upstream.isAvailable())
+                .toList();
+        return candidates.isEmpty() ? choose() : pick(candidates);
+    }
+
+    private static Upstream pick(List<Upstream> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Upstream a = candidates.get(first);
+        Upstream b = candidates.get(second);
+        return a.load() <= b.load() ? a : b;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.client.dto;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class UpstreamChangeFeed {
+    private String streamId;
+    private long latestSequence;
+    private boolean resyncRequired;
+    private List<UpstreamEmployeeChange> changes;
+}
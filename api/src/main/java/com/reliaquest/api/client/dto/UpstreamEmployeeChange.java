@@ -0,0 +1,15 @@
+package com.reliaquest.api.client.dto;
+
+import lombok.Data;
+
+@Data
+public class UpstreamEmployeeChange {
+    private long sequence;
+    private Type type;
+    private EmployeeDTO employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
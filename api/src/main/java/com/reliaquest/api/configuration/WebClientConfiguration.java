@@ -1,10 +1,18 @@
 package com.reliaquest.api.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.reliaquest.api.properties.EmployeeClientProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 @RequiredArgsConstructor
@@ -14,8 +22,28 @@ public class WebClientConfiguration {
 
     @Bean("employeeWebClient")
     public WebClient employeeWebClient() {
+        ObjectMapper smileObjectMapper = smileObjectMapper();
+
+        HttpClient httpClient = HttpClient.create().compress(employeeClientProperties.isCompression());
+
         return WebClient.builder()
                 .baseUrl(employeeClientProperties.getBaseUri())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> {
+                    configurer
+                            .defaultCodecs()
+                            .maxInMemorySize((int)
+                                    employeeClientProperties.getMaxInMemorySize().toBytes());
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2SmileDecoder(smileObjectMapper));
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2SmileEncoder(smileObjectMapper));
+                })
+                .build();
+    }
+
+    public static ObjectMapper smileObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
                 .build();
+        return Jackson2ObjectMapperBuilder.smile().factory(smileFactory).build();
     }
 }
@@ -0,0 +1,36 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.controller.EmployeeEventController;
+import com.reliaquest.api.web.BulkheadInterceptor;
+import com.reliaquest.api.web.ConcurrencyLimitInterceptor;
+import com.reliaquest.api.web.RequestDeadlineInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    // Present only with employee-concurrency-limit.enabled and employee-bulkhead.enabled respectively.
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+    private final ObjectProvider<BulkheadInterceptor> bulkheadInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Event subscriptions stay open indefinitely without holding a thread, so neither deadlines nor the concurrency
+        // limit apply to them.
+        registry.addInterceptor(requestDeadlineInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(EmployeeEventController.EVENTS_PATH);
+        // The overall limit sheds first; bulkheads then queue within what it admits, against the request deadline.
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(EmployeeEventController.EVENTS_PATH));
+        bulkheadInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+}
@@ -1,15 +1,29 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.mapper.EmployeeProjection;
+import com.reliaquest.api.roster.EmployeeSnapshot;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.Bulkheaded;
+import com.reliaquest.api.web.OperationClass;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
 import org.springframework.validation.annotation.Validated;
@@ -21,37 +35,80 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 @Validated
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeRequest> {
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     private final EmployeeService employeeService;
     private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    // Proxy to the current request, for headers the fixed interface methods cannot declare.
+    private final HttpServletRequest request;
 
     @Override
+    @Bulkheaded(OperationClass.ROSTER)
     public ResponseEntity<List<Employee>> getAllEmployees() {
         return ResponseEntity.ok(employeeService.getAllEmployees());
     }
 
+    /**
+     * The roster with only the requested {@code fields}, as a JSON array or, for {@code Accept: application/x-ndjson},
+     * one object per line. Rows are written straight from the snapshot as the response goes out.
+     */
+    @GetMapping(path = "/sparse", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Bulkheaded(OperationClass.ROSTER)
+    public void getSparseEmployees(
+            @RequestParam(defaultValue = "id,name") String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response)
+            throws IOException {
+        EmployeeProjection projection;
+        try {
+            projection = EmployeeProjection.of(fields);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+        EmployeeSnapshot snapshot = employeeService.getEmployeeSnapshot();
+
+        boolean lines = StringUtils.isNotBlank(accept)
+                && MediaType.parseMediaTypes(accept).stream()
+                        .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        response.setContentType(lines ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            if (lines) {
+                projection.writeLines(generator, snapshot);
+            } else {
+                projection.writeArray(generator, snapshot);
+            }
+        }
+    }
+
     @Override
+    @Bulkheaded(OperationClass.ROSTER)
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
 
         return ResponseEntity.ok(employeeService.getEmployeesByNameSearch(searchString));
     }
 
     @Override
+    @Bulkheaded(OperationClass.LOOKUP)
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         return ResponseEntity.ok(employeeService.getByEmployeeId(id));
     }
 
     @Override
+    @Bulkheaded(OperationClass.ROSTER)
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         return ResponseEntity.ok(employeeService.getHighestSalaryOfEmployees());
     }
 
     @Override
+    @Bulkheaded(OperationClass.ROSTER)
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         return ResponseEntity.ok(employeeService.getTopTenHighestEarningEmployeeNames());
     }
 
     @Override
+    @Bulkheaded(OperationClass.MUTATION)
     public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeRequest createEmployeeRequestBody) {
 
         // Manual validation since overridden methods cannot strengthen parameter constraints
@@ -65,13 +122,22 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
         }
 
-        Employee createdEmployee = employeeService.createEmployee(createEmployeeRequestBody);
+        String idempotencyKey = request.getHeader(EmployeeClient.IDEMPOTENCY_KEY);
+        if (Objects.nonNull(idempotencyKey)
+                && (StringUtils.isBlank(idempotencyKey) || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " non-blank characters");
+        }
+
+        Employee createdEmployee = employeeService.createEmployee(createEmployeeRequestBody, idempotencyKey);
 
         return ResponseEntity.created(URI.create("/api/employee/" + createdEmployee.getId()))
                 .body(createdEmployee);
     }
 
     @Override
+    @Bulkheaded(OperationClass.MUTATION)
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
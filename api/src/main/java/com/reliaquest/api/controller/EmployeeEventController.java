@@ -0,0 +1,26 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.events.RosterEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/employee")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee-events", name = "enabled")
+public class EmployeeEventController {
+
+    public static final String EVENTS_PATH = "/api/employee/events";
+
+    private final RosterEventBroadcaster rosterEventBroadcaster;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return rosterEventBroadcaster.subscribe();
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.TitleStatistics;
+import com.reliaquest.api.service.EmployeeStatisticsService;
+import com.reliaquest.api.web.Bulkheaded;
+import com.reliaquest.api.web.OperationClass;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Ranked and aggregate roster queries, kept apart from {@link IEmployeeController}'s fixed contract. */
+@RestController
+@RequestMapping("/api/employee/stats")
+@RequiredArgsConstructor
+public class EmployeeStatisticsController {
+
+    private final EmployeeStatisticsService employeeStatisticsService;
+
+    @GetMapping("/top")
+    @Bulkheaded(OperationClass.ROSTER)
+    public ResponseEntity<List<Employee>> getTopEmployees(
+            @RequestParam(defaultValue = "salary") String by, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeStatisticsService.getTopEmployees(by, limit));
+    }
+
+    @GetMapping("/salary/percentiles")
+    @Bulkheaded(OperationClass.ROSTER)
+    public ResponseEntity<Map<String, Integer>> getSalaryPercentiles(
+            @RequestParam(defaultValue = "50,90,99") List<Double> p, @RequestParam(required = false) String title) {
+        return ResponseEntity.ok(employeeStatisticsService.getSalaryPercentiles(p, title));
+    }
+
+    @GetMapping("/salary/histogram")
+    @Bulkheaded(OperationClass.ROSTER)
+    public ResponseEntity<List<SalaryBucket>> getSalaryHistogram(
+            @RequestParam(defaultValue = "10") int buckets, @RequestParam(required = false) String title) {
+        return ResponseEntity.ok(employeeStatisticsService.getSalaryHistogram(buckets, title));
+    }
+
+    @GetMapping("/titles")
+    @Bulkheaded(OperationClass.ROSTER)
+    public ResponseEntity<List<TitleStatistics>> getTitleStatistics() {
+        return ResponseEntity.ok(employeeStatisticsService.getTitleStatistics());
+    }
+}
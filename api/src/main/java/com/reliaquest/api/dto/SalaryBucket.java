@@ -0,0 +1,11 @@
+package com.reliaquest.api.dto;
+
+import lombok.Value;
+
+/** Employees earning at least {@code from} and less than {@code to}. */
+@Value
+public class SalaryBucket {
+    long from;
+    long to;
+    int employees;
+}
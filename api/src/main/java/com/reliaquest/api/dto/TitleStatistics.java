@@ -0,0 +1,14 @@
+package com.reliaquest.api.dto;
+
+import lombok.Value;
+
+/** Salary figures for one title; they are {@code null} when nobody with the title has a salary. */
+@Value
+public class TitleStatistics {
+    String title;
+    int employees;
+    Double averageSalary;
+    Integer minSalary;
+    Integer medianSalary;
+    Integer maxSalary;
+}
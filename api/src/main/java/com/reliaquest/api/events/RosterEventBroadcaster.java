@@ -0,0 +1,300 @@
+package com.reliaquest.api.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.properties.EmployeeEventsProperties;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import com.reliaquest.api.roster.RosterQueries;
+import com.reliaquest.api.roster.RosterRefreshed;
+import com.reliaquest.api.service.EmployeeMutated;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans roster changes out to Server-Sent Events subscribers: {@code employee-created} and {@code employee-deleted} with
+ * the employee, and {@code top-ten} and {@code highest-salary} whenever either value changes. Mutations are announced
+ * as soon as upstream accepts them; each {@link RosterRefreshed} snapshot is diffed by id against the one before, and
+ * changes already announced are not repeated. While anyone is subscribed the roster is refreshed every
+ * {@code refresh-interval}, so one upstream fetch per interval serves every dashboard instead of one per poll.
+ *
+ * <p>Events are serialized once and written to all subscribers from a single thread. Idle subscribers hold no thread,
+ * only their connection and an emitter. A new subscriber gets the current summary straight away.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee-events", name = "enabled")
+public class RosterEventBroadcaster {
+
+    private static final int ANNOUNCED_CAPACITY = 1024;
+
+    private final EmployeeRoster employeeRoster;
+    private final RosterQueries rosterQueries;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final EmployeeEventsProperties employeeEventsProperties;
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Confined to the executor thread from here on.
+    private final Map<String, EmployeeMutated.Type> announced = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, EmployeeMutated.Type> eldest) {
+            return size() > ANNOUNCED_CAPACITY;
+        }
+    };
+    private EmployeeSnapshot lastSnapshot;
+    private TopEarners topEarners;
+    private List<String> topTen;
+    private Integer highestSalary;
+    private long sequence;
+
+    public RosterEventBroadcaster(
+            EmployeeRoster employeeRoster,
+            RosterQueries rosterQueries,
+            EmployeeMapper employeeMapper,
+            ObjectMapper objectMapper,
+            EmployeeEventsProperties employeeEventsProperties,
+            MeterRegistry meterRegistry) {
+        this.employeeRoster = employeeRoster;
+        this.rosterQueries = rosterQueries;
+        this.employeeMapper = employeeMapper;
+        this.objectMapper = objectMapper;
+        this.employeeEventsProperties = employeeEventsProperties;
+        Gauge.builder("employee.events.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long heartbeatMillis = employeeEventsProperties.getHeartbeatInterval().toMillis();
+        executor.scheduleWithFixedDelay(
+                () -> run(this::heartbeat), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        long refreshMillis = employeeEventsProperties.getRefreshInterval().toMillis();
+        if (refreshMillis > 0) {
+            executor.scheduleWithFixedDelay(
+                    () -> run(this::refreshIfSubscribed), refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= employeeEventsProperties.getMaxSubscribers()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many event subscribers");
+        }
+
+        // Never times out; heartbeats find the subscribers that have gone away.
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onError(ex -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        submit(() -> welcome(emitter));
+        return emitter;
+    }
+
+    @EventListener
+    public void onRosterRefreshed(RosterRefreshed event) {
+        submit(() -> refreshed(event.snapshot()));
+    }
+
+    @EventListener
+    public void onEmployeeMutated(EmployeeMutated event) {
+        submit(() -> mutated(event));
+    }
+
+    private void welcome(SseEmitter emitter) {
+        if (Objects.isNull(topEarners)) {
+            if (Objects.isNull(lastSnapshot)) {
+                lastSnapshot = employeeRoster.snapshot();
+            }
+            topEarners = TopEarners.of(lastSnapshot, rosterQueries, employeeMapper);
+            topTen = topEarners.names();
+            highestSalary = topEarners.highestSalary();
+        }
+        send(emitter, frame("top-ten", topTen));
+        send(emitter, frame("highest-salary", highestSalary));
+    }
+
+    private void refreshed(EmployeeSnapshot snapshot) {
+        EmployeeSnapshot previous = lastSnapshot;
+        lastSnapshot = snapshot;
+        if (subscribers.isEmpty()) {
+            // Rebuilt for the next subscriber rather than kept up to date for nobody.
+            topEarners = null;
+            announced.clear();
+            return;
+        }
+
+        if (Objects.nonNull(previous) && previous != snapshot) {
+            announceDifferences(previous, snapshot);
+        }
+        topEarners = TopEarners.of(snapshot, rosterQueries, employeeMapper);
+        publishSummary();
+    }
+
+    private void mutated(EmployeeMutated mutation) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Employee employee = mutation.employee();
+        announced.put(employee.getId(), mutation.type());
+        if (mutation.type() == EmployeeMutated.Type.CREATED) {
+            broadcast(frame("employee-created", employee));
+        } else {
+            broadcast(frame("employee-deleted", employee));
+        }
+
+        if (Objects.nonNull(topEarners)) {
+            if (mutation.type() == EmployeeMutated.Type.CREATED) {
+                topEarners.created(employee);
+            } else {
+                topEarners.deleted(employee.getId());
+            }
+            publishSummary();
+        }
+    }
+
+    private void announceDifferences(EmployeeSnapshot previous, EmployeeSnapshot current) {
+        Set<String> previousIds = ids(previous);
+        Set<String> currentIds = ids(current);
+        for (int row = 0; row < current.size(); row++) {
+            String id = current.id(row);
+            if (!previousIds.contains(id) && !announced.remove(id, EmployeeMutated.Type.CREATED)) {
+                broadcast(frame("employee-created", employeeMapper.toEmployee(current, row)));
+            }
+        }
+        for (int row = 0; row < previous.size(); row++) {
+            String id = previous.id(row);
+            if (!currentIds.contains(id) && !announced.remove(id, EmployeeMutated.Type.DELETED)) {
+                broadcast(frame("employee-deleted", employeeMapper.toEmployee(previous, row)));
+            }
+        }
+    }
+
+    private void publishSummary() {
+        if (!topEarners.isComplete()) {
+            // Deletes took out more top earners than are kept in reserve; the refresh rebuilds them.
+            refreshRoster();
+            return;
+        }
+
+        List<String> names = topEarners.names();
+        if (!names.equals(topTen)) {
+            topTen = names;
+            broadcast(frame("top-ten", names));
+        }
+        Integer highest = topEarners.highestSalary();
+        if (!Objects.equals(highest, highestSalary)) {
+            highestSalary = highest;
+            broadcast(frame("highest-salary", highest));
+        }
+    }
+
+    private void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("").build());
+        }
+    }
+
+    private void refreshIfSubscribed() {
+        if (!subscribers.isEmpty()) {
+            refreshRoster();
+        }
+    }
+
+    // Publishes a RosterRefreshed, which is handled after the current task.
+    private void refreshRoster() {
+        try {
+            employeeRoster.refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Roster refresh for event subscribers failed", ex);
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(String name, Object data) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(++sequence))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize " + name + " event", ex);
+        }
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (SseEmitter subscriber : subscribers) {
+            send(subscriber, frame);
+        }
+    }
+
+    private void send(SseEmitter subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        try {
+            subscriber.send(frame);
+        } catch (IOException | IllegalStateException ex) {
+            // The container completes the emitter after a failed write; only stop writing to it here.
+            log.debug("Dropping event subscriber: {}", ex.toString());
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException ex) {
+            log.debug("Ignoring roster event after shutdown");
+        }
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Unable to deliver roster events", ex);
+        }
+    }
+
+    private static Set<String> ids(EmployeeSnapshot snapshot) {
+        Set<String> ids = new HashSet<>(snapshot.size() * 4 / 3 + 1);
+        for (int row = 0; row < snapshot.size(); row++) {
+            ids.add(snapshot.id(row));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.events;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import com.reliaquest.api.roster.RosterQueries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The highest earners behind the {@code top-ten} and {@code highest-salary} events. Twice as many employees as are
+ * shown are kept, so creates and deletes can be folded in between roster refreshes without another pass over the
+ * roster. Once deletes leave fewer than ten of a larger roster, {@link #isComplete()} is false until it is rebuilt.
+ */
+final class TopEarners {
+
+    static final int SHOWN = 10;
+    private static final int KEPT = 2 * SHOWN;
+
+    // Highest salary first; equal salaries in the order they were seen.
+    private final List<Employee> kept;
+
+    // Whether every employee with a salary is kept, so that nothing ranks below the last one.
+    private boolean exhaustive;
+
+    private TopEarners(List<Employee> kept, boolean exhaustive) {
+        this.kept = kept;
+        this.exhaustive = exhaustive;
+    }
+
+    static TopEarners of(EmployeeSnapshot snapshot, RosterQueries rosterQueries, EmployeeMapper employeeMapper) {
+        int[] rows = rosterQueries.topRowsBySalary(snapshot, KEPT);
+        return new TopEarners(new ArrayList<>(employeeMapper.toEmployees(snapshot, rows)), rows.length < KEPT);
+    }
+
+    void created(Employee employee) {
+        deleted(employee.getId());
+        if (Objects.isNull(employee.getSalary())) {
+            return;
+        }
+
+        int position = 0;
+        while (position < kept.size() && kept.get(position).getSalary() >= employee.getSalary()) {
+            position++;
+        }
+        if (position == kept.size() && !exhaustive) {
+            // Ranks somewhere among the employees that are not kept.
+            return;
+        }
+        kept.add(position, employee);
+        if (kept.size() > KEPT) {
+            kept.remove(KEPT);
+            exhaustive = false;
+        }
+    }
+
+    void deleted(String id) {
+        kept.removeIf(employee -> Objects.equals(employee.getId(), id));
+    }
+
+    boolean isComplete() {
+        return exhaustive || kept.size() >= SHOWN;
+    }
+
+    List<String> names() {
+        return kept.stream().limit(SHOWN).map(Employee::getName).toList();
+    }
+
+    Integer highestSalary() {
+        return kept.isEmpty() ? null : kept.get(0).getSalary();
+    }
+}
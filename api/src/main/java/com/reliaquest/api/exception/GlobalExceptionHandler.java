@@ -6,9 +6,11 @@ import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.server.ResponseStatusException;
@@ -17,25 +19,48 @@ import org.springframework.web.server.ResponseStatusException;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    // Expected upstream outcomes: already logged (sampled) where they happened, body serialized up front.
+    @ExceptionHandler(UpstreamException.class)
+    public ResponseEntity<byte[]> handleUpstreamException(UpstreamException ex) {
+        log.debug("Handled UpstreamException: status={}, message={}", ex.getStatus(), ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus())
+                .headers(ex.getHeaders())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ex.getBody());
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, Object>> handleResponseStatusException(ResponseStatusException ex) {
-        log.error("Handled ResponseStatusException: {}", ex.getReason(), ex);
+        if (ex.getStatusCode().is5xxServerError()) {
+            log.error("Handled ResponseStatusException: {}", ex.getReason(), ex);
+        } else {
+            log.debug("Handled ResponseStatusException: {}", ex.getReason());
+        }
 
         String message = Optional.ofNullable(ex.getReason())
                 .orElse(HttpStatus.valueOf(ex.getStatusCode().value()).getReasonPhrase());
 
         return ResponseEntity.status(ex.getStatusCode())
+                .headers(ex.getHeaders())
                 .body(Map.of("status", ex.getStatusCode().value(), "message", message));
     }
 
+    // Query parameter or path variable that does not convert, e.g. a non-numeric limit
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex) {
+        log.debug("Handled MethodArgumentTypeMismatchException: {}", ex.getMessage());
+
+        return ResponseEntity.badRequest()
+                .body(Map.of("status", HttpStatus.BAD_REQUEST.value(), "message", "Invalid value for " + ex.getName()));
+    }
+
     // HTTP response received, but it's a non 2xx code
     @ExceptionHandler(WebClientResponseException.class)
     public ResponseEntity<Map<String, Object>> handleWebClientResponseException(WebClientResponseException ex) {
-        log.error(
-                "Handled WebClientResponseException: status={}, body={}",
-                ex.getStatusCode().value(),
-                ex.getResponseBodyAsString(),
-                ex);
+        // EmployeeClient has already logged the status and body.
+        log.debug("Handled WebClientResponseException: status={}", ex.getStatusCode());
 
         HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
         String message;
@@ -57,19 +82,22 @@ public class GlobalExceptionHandler {
     // No Http response received from client
     @ExceptionHandler(WebClientRequestException.class)
     public ResponseEntity<Map<String, Object>> handleWebClientRequestException(WebClientRequestException ex) {
-        log.error("Handled WebClientRequestException: {}", ex.getMessage(), ex);
+        log.debug("Handled WebClientRequestException: {}", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
                 .body(Map.of("status", HttpStatus.BAD_GATEWAY.value(), "message", "Upstream service unavailable"));
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+    public ResponseEntity<?> handleGenericException(Exception ex) {
         Throwable exceptionCause = ex;
 
         // Walk the exception cause chain to preserve the original HTTP status when exceptions are wrapped
         // (retry/app/clients).
         while (Objects.nonNull(exceptionCause)) {
+            if (exceptionCause instanceof UpstreamException upstreamException) {
+                return handleUpstreamException(upstreamException);
+            }
             if (exceptionCause instanceof ResponseStatusException rse) {
                 return handleResponseStatusException(rse);
             }
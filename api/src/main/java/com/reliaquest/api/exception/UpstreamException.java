@@ -0,0 +1,58 @@
+package com.reliaquest.api.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected upstream outcome (rate limited, not found, unreachable, empty) surfaced to callers with a fixed status and
+ * message. Under throttling these are routine control flow rather than bugs, so no stack trace is captured and the
+ * response body is serialized once. The shared instances are immutable and safe to throw from any thread.
+ */
+@Getter
+public class UpstreamException extends RuntimeException {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static final UpstreamException RATE_LIMITED =
+            new UpstreamException(HttpStatus.TOO_MANY_REQUESTS, "Upstream rate limited requests");
+    public static final UpstreamException NOT_FOUND = new UpstreamException(HttpStatus.NOT_FOUND, "Resource not found");
+    public static final UpstreamException UNAVAILABLE =
+            new UpstreamException(HttpStatus.BAD_GATEWAY, "Upstream service unavailable");
+    public static final UpstreamException EMPTY_RESPONSE =
+            new UpstreamException(HttpStatus.BAD_GATEWAY, "Upstream returned an empty response");
+    public static final UpstreamException TIMEOUT =
+            new UpstreamException(HttpStatus.GATEWAY_TIMEOUT, "Upstream did not answer within the request deadline");
+
+    private final HttpStatus status;
+    private final byte[] body;
+
+    protected UpstreamException(HttpStatus status, String message) {
+        this(status, message, errorBody(status, message));
+    }
+
+    protected UpstreamException(HttpStatus status, String message, byte[] body) {
+        super(message, null, false, false);
+        this.status = status;
+        this.body = body;
+    }
+
+    public HttpHeaders getHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+
+    private static byte[] errorBody(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status.value());
+        body.put("message", message);
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Upstream is rate limiting and will not accept the call again within the caller's latency budget. Surfaces as a 429
+ * whose {@code Retry-After} tells the caller exactly how long upstream asked for.
+ */
+@Getter
+public class UpstreamRateLimitedException extends UpstreamException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(Duration retryAfter) {
+        super(RATE_LIMITED.getStatus(), RATE_LIMITED.getMessage(), RATE_LIMITED.getBody());
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds()));
+        return headers;
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
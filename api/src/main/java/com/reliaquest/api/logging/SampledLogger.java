@@ -0,0 +1,94 @@
+package com.reliaquest.api.logging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * Lets each message key through to the wrapped logger at most {@code permitsPerSecond} times a second. The rest are
+ * only counted, and the count is appended to the next line that gets through. A burst of identical failures then
+ * costs a counter increment each instead of a log write. Keys should be low-cardinality, e.g. operation and status.
+ *
+ * <p>Arguments that are {@link Supplier}s are only called for lines that get through, so costly ones such as a decoded
+ * response body are not built for suppressed lines.
+ */
+public final class SampledLogger {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger delegate;
+    private final int permitsPerSecond;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SampledLogger(Logger delegate, int permitsPerSecond) {
+        this.delegate = delegate;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void warn(String key, String format, Object... arguments) {
+        if (delegate.isWarnEnabled()) {
+            long suppressed = permit(key);
+            if (suppressed == 0) {
+                delegate.warn(format, resolved(arguments));
+            } else if (suppressed > 0) {
+                delegate.warn(format + " ({} similar suppressed)", withSuppressed(resolved(arguments), suppressed));
+            }
+        }
+    }
+
+    public void error(String key, String format, Object... arguments) {
+        if (delegate.isErrorEnabled()) {
+            long suppressed = permit(key);
+            if (suppressed == 0) {
+                delegate.error(format, resolved(arguments));
+            } else if (suppressed > 0) {
+                delegate.error(format + " ({} similar suppressed)", withSuppressed(resolved(arguments), suppressed));
+            }
+        }
+    }
+
+    // Lines suppressed since the last one logged for this key, or -1 when this one is suppressed too.
+    private long permit(String key) {
+        return windows.computeIfAbsent(key, ignored -> new Window()).permit(System.nanoTime());
+    }
+
+    private static Object[] resolved(Object[] arguments) {
+        Object[] resolved = arguments.clone();
+        for (int i = 0; i < resolved.length; i++) {
+            if (resolved[i] instanceof Supplier<?> supplier) {
+                resolved[i] = supplier.get();
+            }
+        }
+        return resolved;
+    }
+
+    private static Object[] withSuppressed(Object[] arguments, long suppressed) {
+        Object[] extended = Arrays.copyOf(arguments, arguments.length + 1);
+        extended[arguments.length] = suppressed;
+        return extended;
+    }
+
+    // Racy at window boundaries by design: an extra line or two is cheaper than coordinating every caller.
+    private final class Window {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        long permit(long now) {
+            long windowStart = start.get();
+            if (now - windowStart >= WINDOW_NANOS && start.compareAndSet(windowStart, now)) {
+                used.set(0);
+            }
+            if (used.incrementAndGet() <= permitsPerSecond) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
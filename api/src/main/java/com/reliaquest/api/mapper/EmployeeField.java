@@ -0,0 +1,94 @@
+package com.reliaquest.api.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import java.io.IOException;
+import java.util.Objects;
+
+/** One {@link com.reliaquest.api.dto.Employee} property, written straight from a snapshot row. */
+public enum EmployeeField {
+    ID("id") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeString(generator, snapshot.id(row));
+        }
+    },
+    NAME("name") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeString(generator, snapshot.name(row));
+        }
+    },
+    SALARY("salary") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeNumber(generator, snapshot.salary(row));
+        }
+    },
+    AGE("age") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeNumber(generator, snapshot.age(row));
+        }
+    },
+    TITLE("title") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeString(generator, snapshot.title(row));
+        }
+    },
+    EMAIL("email") {
+        @Override
+        void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+            writeString(generator, snapshot.email(row));
+        }
+    };
+
+    private final String jsonName;
+
+    // Quoted and encoded once, instead of on every row.
+    private final SerializedString serializedName;
+
+    EmployeeField(String jsonName) {
+        this.jsonName = jsonName;
+        this.serializedName = new SerializedString(jsonName);
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /** The field for a JSON property name, or {@code null}. */
+    public static EmployeeField ofJsonName(String jsonName) {
+        for (EmployeeField field : values()) {
+            if (field.jsonName.equals(jsonName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    void write(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+        generator.writeFieldName(serializedName);
+        writeValue(generator, snapshot, row);
+    }
+
+    abstract void writeValue(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException;
+
+    private static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (Objects.isNull(value)) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, int value) throws IOException {
+        if (value == EmployeeSnapshot.ABSENT) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.reliaquest.api.mapper;
 
 import com.reliaquest.api.client.dto.EmployeeDTO;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.springframework.stereotype.Component;
@@ -30,4 +32,34 @@ public class EmployeeMapper {
 
         return employeeDTOList.stream().map(this::toEmployee).toList();
     }
+
+    public Employee toEmployee(EmployeeSnapshot snapshot, int row) {
+        return new Employee(
+                snapshot.id(row),
+                snapshot.name(row),
+                boxed(snapshot.salary(row)),
+                boxed(snapshot.age(row)),
+                snapshot.title(row),
+                snapshot.email(row));
+    }
+
+    public List<Employee> toEmployees(EmployeeSnapshot snapshot) {
+        List<Employee> employees = new ArrayList<>(snapshot.size());
+        for (int row = 0; row < snapshot.size(); row++) {
+            employees.add(toEmployee(snapshot, row));
+        }
+        return employees;
+    }
+
+    public List<Employee> toEmployees(EmployeeSnapshot snapshot, int[] rows) {
+        List<Employee> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(toEmployee(snapshot, row));
+        }
+        return employees;
+    }
+
+    private static Integer boxed(int value) {
+        return value == EmployeeSnapshot.ABSENT ? null : value;
+    }
 }
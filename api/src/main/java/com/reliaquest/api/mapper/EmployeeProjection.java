@@ -0,0 +1,85 @@
+package com.reliaquest.api.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Writes a subset of the {@link com.reliaquest.api.dto.Employee} properties for snapshot rows, with no {@code Employee}
+ * objects and no reflection in between. Each distinct set of fields is compiled once into an array of
+ * {@link EmployeeField} writers and reused; fields are written in {@code Employee} order whatever order they were
+ * requested in.
+ */
+public final class EmployeeProjection {
+
+    private static final AtomicReferenceArray<EmployeeProjection> COMPILED =
+            new AtomicReferenceArray<>(1 << EmployeeField.values().length);
+
+    private final EmployeeField[] fields;
+
+    private EmployeeProjection(Set<EmployeeField> fields) {
+        this.fields = fields.toArray(EmployeeField[]::new);
+    }
+
+    /**
+     * Projection for a comma-separated list of {@code Employee} property names, e.g. {@code "id,name"}.
+     *
+     * @throws IllegalArgumentException for a blank list or an unknown property
+     */
+    public static EmployeeProjection of(String fieldNames) {
+        if (StringUtils.isBlank(fieldNames)) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+
+        Set<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+        for (String fieldName : fieldNames.split(",")) {
+            EmployeeField field = EmployeeField.ofJsonName(fieldName.trim());
+            if (Objects.isNull(field)) {
+                throw new IllegalArgumentException("Unknown field: " + fieldName.trim());
+            }
+            fields.add(field);
+        }
+
+        int key = 0;
+        for (EmployeeField field : fields) {
+            key |= 1 << field.ordinal();
+        }
+        EmployeeProjection compiled = COMPILED.get(key);
+        if (Objects.isNull(compiled)) {
+            COMPILED.compareAndSet(key, null, new EmployeeProjection(fields));
+            compiled = COMPILED.get(key);
+        }
+        return compiled;
+    }
+
+    /** All rows as one JSON array. */
+    public void writeArray(JsonGenerator generator, EmployeeSnapshot snapshot) throws IOException {
+        generator.writeStartArray();
+        for (int row = 0; row < snapshot.size(); row++) {
+            writeRow(generator, snapshot, row);
+        }
+        generator.writeEndArray();
+    }
+
+    /** All rows as newline-delimited JSON, one object per line. */
+    public void writeLines(JsonGenerator generator, EmployeeSnapshot snapshot) throws IOException {
+        generator.setRootValueSeparator(null);
+        for (int row = 0; row < snapshot.size(); row++) {
+            writeRow(generator, snapshot, row);
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, EmployeeSnapshot snapshot, int row) throws IOException {
+        generator.writeStartObject();
+        for (EmployeeField field : fields) {
+            field.write(generator, snapshot, row);
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("employee-bulkhead")
+public class BulkheadProperties {
+
+    // Give roster queries, single lookups and mutations separate concurrency limits so one class cannot take every
+    // request thread.
+    private boolean enabled;
+
+    // Sent as Retry-After on the 503 returned when a compartment is full.
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // Full roster, search, highest salary and top ten: each may download the whole roster.
+    private Compartment roster = new Compartment(20, 20, Duration.ofSeconds(1));
+
+    // GET /{id}.
+    private Compartment lookup = new Compartment(150, 50, Duration.ofMillis(250));
+
+    // Create and delete.
+    private Compartment mutation = new Compartment(20, 20, Duration.ofSeconds(1));
+
+    @Data
+    @NoArgsConstructor
+    public static class Compartment {
+        // Requests handled at once.
+        private int maxConcurrent;
+
+        // Requests waiting for one of those slots; any beyond are rejected at once.
+        private int maxQueued;
+
+        // Longest a queued request waits, or less when its request deadline is sooner.
+        private Duration maxWait;
+
+        Compartment(int maxConcurrent, int maxQueued, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWait = maxWait;
+        }
+    }
+}
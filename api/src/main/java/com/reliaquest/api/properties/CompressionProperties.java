@@ -0,0 +1,26 @@
+package com.reliaquest.api.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@Data
+@ConfigurationProperties("employee-compression")
+public class CompressionProperties {
+
+    // Gzip responses for clients that send Accept-Encoding: gzip.
+    private boolean enabled;
+
+    // Deflate level: 1 is fastest, 9 smallest.
+    private int level = 6;
+
+    // Smaller responses are sent as they are; compressing them costs more than it saves.
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+    private List<String> mimeTypes =
+            new ArrayList<>(List.of("application/json", "application/x-ndjson", "text/plain"));
+}
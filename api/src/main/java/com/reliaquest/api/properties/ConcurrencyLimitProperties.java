@@ -0,0 +1,39 @@
+package com.reliaquest.api.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("employee-concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    // Cap requests in flight at a limit that adapts to latency, shedding the rest with 503.
+    private boolean enabled;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 10;
+
+    // Tomcat's default thread count; a higher limit could never be reached.
+    private int maxLimit = 200;
+
+    // Recent latency may exceed the long-term average by this factor before the limit shrinks.
+    private double rttTolerance = 1.5;
+
+    // Added to the limit on every sample while latency holds steady, to keep probing for headroom.
+    private int queueSize = 4;
+
+    // Share of each new estimate blended into the limit.
+    private double smoothing = 0.2;
+
+    // Samples averaged by the recent and the long-term latency.
+    private int shortWindow = 10;
+
+    private int longWindow = 600;
+
+    // Sent as Retry-After on the 503 for shed requests.
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
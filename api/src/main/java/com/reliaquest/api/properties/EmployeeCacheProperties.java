@@ -0,0 +1,26 @@
+package com.reliaquest.api.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@Data
+@ConfigurationProperties("employee-cache")
+public class EmployeeCacheProperties {
+
+    // Serve GET /employee/{id} from a per-id cache instead of going upstream every time.
+    private boolean enabled;
+
+    private long maximumSize = 10_000;
+
+    // When set, bounds the cache by estimated heap footprint instead of maximumSize.
+    private DataSize maximumWeight;
+
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // How long an upstream 404 is remembered.
+    private Duration negativeTtl = Duration.ofSeconds(5);
+}
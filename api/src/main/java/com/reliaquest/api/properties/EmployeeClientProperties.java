@@ -1,12 +1,106 @@
 package com.reliaquest.api.properties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Component
 @Data
 @ConfigurationProperties("employee-client")
 public class EmployeeClientProperties {
     private String baseUri;
+
+    // Replicas to spread calls over, each with its own rate limit and health state; baseUri alone when empty.
+    private List<String> upstreams = new ArrayList<>();
+
+    // Fetch the roster as this many id-range shards in parallel, spread over the upstreams, and merge them.
+    private int rosterShards = 1;
+
+    // Representation requested from upstream through Accept; JSON is always accepted as a fallback.
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    // Send Accept-Encoding: gzip upstream and inflate responses as they stream in. Worth turning off for upstreams on
+    // the same host, where compressing costs more CPU than the bytes saved.
+    private boolean compression = true;
+
+    // Full rosters easily exceed the 256KB codec default.
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(64);
+
+    // Deadline for each inbound api request across every upstream call it makes; X-Request-Timeout can shorten it.
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    private Backoff backoff = new Backoff();
+
+    private Hedge hedge = new Hedge();
+
+    private Balancing balancing = new Balancing();
+
+    public enum WireFormat {
+        JSON,
+        SMILE
+    }
+
+    public enum Strategy {
+        // Fewest requests in flight.
+        LEAST_IN_FLIGHT,
+        // Lowest latency EWMA scaled by requests in flight.
+        LATENCY_EWMA
+    }
+
+    @Data
+    public static class Backoff {
+        // Retries after the first attempt, for 429s and for 503s that carry Retry-After.
+        private int maxRetries = 3;
+
+        // Jittered exponential delays, used only when upstream gives no Retry-After or RateLimit-Reset hint.
+        private Duration minBackoff = Duration.ofMillis(200);
+
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        // Longest one upstream call may take including waits. Calls that would have to wait longer fail fast with
+        // the hint instead; the request deadline, when sooner, wins.
+        private Duration latencyBudget = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Hedge {
+        // Send a second GET /employee/{id} when the first has not answered in time; first response wins.
+        private boolean enabled;
+
+        // Recent latency percentile after which the hedge is sent.
+        private double delayPercentile = 0.95;
+
+        // Floor for the hedge delay, and the delay used until minSamples latencies have been seen.
+        private Duration minDelay = Duration.ofMillis(10);
+
+        private Duration initialDelay = Duration.ofMillis(100);
+
+        private int minSamples = 100;
+
+        // Window the latency percentile is computed over.
+        private Duration window = Duration.ofMinutes(1);
+
+        // Hedges may never exceed this share of lookups; unused allowance accrues up to maxBurst hedges.
+        private double maxRatio = 0.05;
+
+        private int maxBurst = 10;
+    }
+
+    @Data
+    public static class Balancing {
+        // How the less loaded of two randomly drawn upstreams is chosen.
+        private Strategy strategy = Strategy.LEAST_IN_FLIGHT;
+
+        // Weight of the newest sample in each upstream's latency EWMA.
+        private double ewmaWeight = 0.2;
+
+        // Consecutive connection failures or 5xx responses after which an upstream is passed over for ejectFor.
+        private int ejectAfter = 3;
+
+        private Duration ejectFor = Duration.ofSeconds(10);
+    }
 }
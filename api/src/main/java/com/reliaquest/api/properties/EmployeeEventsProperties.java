@@ -0,0 +1,24 @@
+package com.reliaquest.api.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("employee-events")
+public class EmployeeEventsProperties {
+
+    // Serve GET /api/employee/events, a Server-Sent Events stream of roster changes.
+    private boolean enabled;
+
+    // How often the roster is refreshed from upstream while anyone is subscribed; 0s leaves refreshes to queries.
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    // Comment lines sent to idle subscribers, so proxies keep the connection and dead clients are noticed.
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Further subscriptions are refused with 503.
+    private int maxSubscribers = 10_000;
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("employee-idempotency")
+public class IdempotencyProperties {
+
+    // Replay creates that repeat an Idempotency-Key instead of creating the employee again.
+    private boolean enabled;
+
+    // Keys remembered; the least valuable are evicted first once full.
+    private long maximumSize = 10_000;
+
+    // How long a completed create is replayed for its key.
+    private Duration ttl = Duration.ofHours(24);
+}
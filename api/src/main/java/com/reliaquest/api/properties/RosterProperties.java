@@ -0,0 +1,43 @@
+package com.reliaquest.api.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("employee-roster")
+public class RosterProperties {
+
+    // Age after which the roster is fetched again; zero goes upstream for every query.
+    private Duration maxStaleness = Duration.ZERO;
+
+    // When set, every fetched roster is persisted here and mapped back in on startup. Stale rosters are then served
+    // while a single background refresh runs.
+    private Path snapshotFile;
+
+    private ChangeFeed changeFeed = new ChangeFeed();
+
+    private Parallel parallel = new Parallel();
+
+    @Data
+    public static class ChangeFeed {
+        // Follow upstream's change log instead of re-downloading the roster on every refresh.
+        private boolean enabled;
+
+        private int batchSize = 1000;
+    }
+
+    @Data
+    public static class Parallel {
+        // Snapshots smaller than this are queried on the calling thread; see RosterQueryBenchmark for the crossover.
+        private int threshold = 200_000;
+
+        // Rows evaluated per fork-join leaf task.
+        private int chunkSize = 32_768;
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,255 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.dto.UpstreamChangeFeed;
+import com.reliaquest.api.client.dto.UpstreamEmployeeChange;
+import com.reliaquest.api.properties.RosterProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Owns the current {@link EmployeeSnapshot}.
+ *
+ * <p>With the default configuration every call fetches the roster from upstream. With
+ * {@code employee-roster.snapshot-file} set, rosters are persisted to a memory-mapped file after each fetch and the
+ * heap copy is swapped for the mapped one; on startup the file is mapped immediately and refreshed in the background.
+ * With {@code employee-roster.change-feed.enabled}, refreshes after the first one only pull the upstream change log;
+ * the file is then still written for warm restarts, but the heap snapshot keeps being served, because applying changes
+ * to a mapped snapshot would first copy all of it back onto the heap. Every refresh that installs a new snapshot
+ * publishes a {@link RosterRefreshed} event.
+ *
+ * <p>Refreshes may be asked for concurrently by request threads, the background executor and event subscribers. Only
+ * one runs at a time and the others wait for its snapshot, so a burst of requests finding no fresh roster costs one
+ * upstream fetch, and a slow refresh can never replace a newer roster and cursor with older ones.
+ */
+@Component
+@Slf4j
+public class EmployeeRoster {
+
+    private final EmployeeClient employeeClient;
+    private final RosterProperties rosterProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<Loaded> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<EmployeeSnapshot>> runningRefresh = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    // Newest installed snapshot not yet written to the snapshot file; earlier ones are skipped.
+    private final AtomicReference<Loaded> pendingPersist = new AtomicReference<>();
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-roster-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeRoster(
+            EmployeeClient employeeClient,
+            RosterProperties rosterProperties,
+            ApplicationEventPublisher eventPublisher) {
+        this.employeeClient = employeeClient;
+        this.rosterProperties = rosterProperties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void restore() {
+        Path snapshotFile = rosterProperties.getSnapshotFile();
+        if (Objects.isNull(snapshotFile) || !Files.isRegularFile(snapshotFile)) {
+            return;
+        }
+
+        try {
+            MappedEmployeeSnapshot snapshot = MappedEmployeeSnapshot.open(snapshotFile);
+            current.set(new Loaded(snapshot, snapshot.createdAt(), null));
+            log.info(
+                    "Restored {} employees from {} captured at {}",
+                    snapshot.size(),
+                    snapshotFile,
+                    snapshot.createdAt());
+            refreshInBackground();
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable roster snapshot {}", snapshotFile, ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    public EmployeeSnapshot snapshot() {
+        Loaded loaded = current.get();
+        if (Objects.isNull(loaded)) {
+            return refresh();
+        }
+        if (!loaded.isOlderThan(rosterProperties.getMaxStaleness())) {
+            return loaded.snapshot();
+        }
+        if (isPersistent()) {
+            refreshInBackground();
+            return loaded.snapshot();
+        }
+        return refresh();
+    }
+
+    /** Loads a new roster, or waits for the refresh already under way and returns its snapshot. */
+    public EmployeeSnapshot refresh() {
+        CompletableFuture<EmployeeSnapshot> refresh = new CompletableFuture<>();
+        CompletableFuture<EmployeeSnapshot> running = runningRefresh.compareAndExchange(null, refresh);
+        if (Objects.nonNull(running)) {
+            return await(running);
+        }
+
+        try {
+            EmployeeSnapshot snapshot = load();
+            refresh.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException ex) {
+            refresh.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            runningRefresh.set(null);
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        Loaded previous = current.get();
+        Loaded loaded = Objects.nonNull(previous) && Objects.nonNull(previous.cursor())
+                ? catchUp(previous)
+                : fetchAll();
+        Loaded replaced = current.getAndSet(loaded);
+        if (Objects.isNull(replaced) || replaced.snapshot() != loaded.snapshot()) {
+            eventPublisher.publishEvent(new RosterRefreshed(loaded.snapshot()));
+            if (isPersistent() && Objects.isNull(pendingPersist.getAndSet(loaded))) {
+                backgroundExecutor.execute(this::persistPending);
+            }
+        }
+        return loaded.snapshot();
+    }
+
+    // Waiters see the same failure as the refresh they joined, e.g. upstream rate limiting.
+    private static EmployeeSnapshot await(CompletableFuture<EmployeeSnapshot> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Loaded fetchAll() {
+        // Reading the cursor before the roster means changes racing the fetch are replayed, never missed; replaying
+        // them is harmless because applying changes is idempotent.
+        FeedCursor cursor = null;
+        if (rosterProperties.getChangeFeed().isEnabled()) {
+            UpstreamChangeFeed changeFeed = employeeClient.getChanges(0, 0);
+            cursor = new FeedCursor(changeFeed.getStreamId(), changeFeed.getLatestSequence());
+        }
+
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employeeClient.getAllEmployees());
+        return new Loaded(snapshot, Instant.now(), cursor);
+    }
+
+    private Loaded catchUp(Loaded previous) {
+        FeedCursor cursor = previous.cursor();
+        RosterChanges changes = new RosterChanges();
+        UpstreamChangeFeed changeFeed;
+        do {
+            changeFeed = employeeClient.getChanges(
+                    cursor.sequence(), rosterProperties.getChangeFeed().getBatchSize());
+            if (changeFeed.isResyncRequired() || !Objects.equals(changeFeed.getStreamId(), cursor.streamId())) {
+                log.info("Change feed cannot continue from {}; fetching the full roster", cursor);
+                return fetchAll();
+            }
+            if (CollectionUtils.isEmpty(changeFeed.getChanges())) {
+                break;
+            }
+
+            for (UpstreamEmployeeChange change : changeFeed.getChanges()) {
+                if (change.getType() == UpstreamEmployeeChange.Type.CREATED) {
+                    changes.created(change.getEmployee());
+                } else if (Objects.nonNull(change.getEmployee())) {
+                    changes.deleted(change.getEmployee().getId());
+                }
+                cursor = new FeedCursor(cursor.streamId(), change.getSequence());
+            }
+        } while (cursor.sequence() < changeFeed.getLatestSequence());
+
+        log.debug("Caught up with upstream change feed to {}", cursor);
+        return new Loaded(previous.snapshot().withChanges(changes), Instant.now(), cursor);
+    }
+
+    private void refreshInBackground() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        backgroundExecutor.execute(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                log.warn("Background roster refresh failed; continuing to serve the previous snapshot", ex);
+            } finally {
+                refreshInFlight.set(false);
+            }
+        });
+    }
+
+    // Runs on the background executor so request threads never wait on disk. Snapshots installed while an earlier
+    // one was being written are folded into one write of the newest.
+    private void persistPending() {
+        Loaded loaded = pendingPersist.getAndSet(null);
+        if (Objects.isNull(loaded) || current.get().snapshot() != loaded.snapshot()) {
+            return;
+        }
+
+        Path snapshotFile = rosterProperties.getSnapshotFile();
+        try {
+            MappedEmployeeSnapshot.write(loaded.snapshot(), loaded.loadedAt(), snapshotFile);
+            if (rosterProperties.getChangeFeed().isEnabled()) {
+                log.debug("Persisted {} employees to {}", loaded.snapshot().size(), snapshotFile);
+                return;
+            }
+            // Mappings of replaced files are released once their snapshots are garbage collected.
+            MappedEmployeeSnapshot mapped = MappedEmployeeSnapshot.open(snapshotFile);
+            Loaded swapped = current.updateAndGet(
+                    existing -> existing.snapshot() == loaded.snapshot() ? existing.withSnapshot(mapped) : existing);
+            if (swapped.snapshot() == mapped) {
+                log.debug("Persisted {} employees to {}", mapped.size(), snapshotFile);
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to persist roster snapshot to {}", snapshotFile, ex);
+        }
+    }
+
+    private boolean isPersistent() {
+        return Objects.nonNull(rosterProperties.getSnapshotFile());
+    }
+
+    private record Loaded(EmployeeSnapshot snapshot, Instant loadedAt, FeedCursor cursor) {
+        boolean isOlderThan(Duration maxStaleness) {
+            return loadedAt.plus(maxStaleness).isBefore(Instant.now());
+        }
+
+        Loaded withSnapshot(EmployeeSnapshot replacement) {
+            return new Loaded(replacement, loadedAt, cursor);
+        }
+    }
+
+    private record FeedCursor(String streamId, long sequence) {}
+}
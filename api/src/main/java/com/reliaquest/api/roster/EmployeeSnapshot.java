@@ -0,0 +1,262 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Immutable, column-oriented view of the upstream roster.
+ *
+ * <p>Salaries and ages are kept as primitive columns, canonical UUID ids are packed into two {@code long} columns and
+ * names, titles and emails are deduplicated into a shared string pool. Queries run over the columns directly;
+ * {@link com.reliaquest.api.dto.Employee} objects are only created for the rows a response actually returns.
+ *
+ * <p>Columns live on the heap for freshly fetched rosters ({@link #builder(int)}) or in a memory-mapped file for
+ * persisted ones ({@link MappedEmployeeSnapshot}).
+ */
+public abstract class EmployeeSnapshot {
+
+    /** Column value for a missing salary or age. */
+    public static final int ABSENT = Integer.MIN_VALUE;
+
+    public static EmployeeSnapshot of(List<EmployeeDTO> employeeDTOList) {
+        Builder builder = builder(Objects.isNull(employeeDTOList) ? 0 : employeeDTOList.size());
+        if (Objects.nonNull(employeeDTOList)) {
+            employeeDTOList.forEach(builder::add);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public abstract int size();
+
+    public abstract String id(int row);
+
+    public abstract String name(int row);
+
+    public abstract String title(int row);
+
+    public abstract String email(int row);
+
+    /** Salary of the row, or {@link #ABSENT}. */
+    public abstract int salary(int row);
+
+    /** Age of the row, or {@link #ABSENT}. */
+    public abstract int age(int row);
+
+    /**
+     * New snapshot with the changes applied; this snapshot is left untouched. Returns {@code this} when there is
+     * nothing to apply.
+     */
+    public EmployeeSnapshot withChanges(RosterChanges changes) {
+        return changes.isEmpty() ? this : heapCopy().withChanges(changes);
+    }
+
+    HeapEmployeeSnapshot heapCopy() {
+        Builder builder = builder(size());
+        for (int row = 0; row < size(); row++) {
+            builder.add(
+                    id(row),
+                    name(row),
+                    salary(row) == ABSENT ? null : salary(row),
+                    age(row) == ABSENT ? null : age(row),
+                    title(row),
+                    email(row));
+        }
+        return (HeapEmployeeSnapshot) builder.build();
+    }
+
+    /**
+     * Rows whose name contains the fragment, already folded with {@link NameKey#of}, in roster order. Names are
+     * compared through their precomputed keys, so no per-row strings are created.
+     */
+    public int[] rowsWithNameContaining(String nameKeyFragment) {
+        return rowsWithNameContaining(nameKeyFragment, 0, size());
+    }
+
+    /** {@link #rowsWithNameContaining(String)} restricted to rows {@code [fromRow, toRow)}. */
+    public int[] rowsWithNameContaining(String nameKeyFragment, int fromRow, int toRow) {
+        IntPredicate matchesName = nameKeyContaining(nameKeyFragment);
+        int[] matches = new int[Math.min(toRow - fromRow, 16)];
+        int matchCount = 0;
+        for (int row = fromRow; row < toRow; row++) {
+            if (matchesName.test(row)) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, Math.max(matchCount * 2, 1));
+                }
+                matches[matchCount++] = row;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /** Whether a row's name key contains the fragment; blank names never match. */
+    abstract IntPredicate nameKeyContaining(String nameKeyFragment);
+
+    /** Highest salary in the roster, or {@code null} when no row has one. */
+    public Integer highestSalary() {
+        int highest = highestSalary(0, size());
+        return highest == ABSENT ? null : highest;
+    }
+
+    /** Highest salary among rows {@code [fromRow, toRow)}, or {@link #ABSENT}. */
+    public int highestSalary(int fromRow, int toRow) {
+        int highest = ABSENT;
+        for (int row = fromRow; row < toRow; row++) {
+            highest = Math.max(highest, salary(row));
+        }
+        return highest;
+    }
+
+    /**
+     * Up to {@code limit} rows with a salary, highest salary first. Rows with equal salaries keep roster order.
+     */
+    public int[] topRowsBySalary(int limit) {
+        return topRowsBySalary(limit, 0, size());
+    }
+
+    /** {@link #topRowsBySalary(int)} restricted to rows {@code [fromRow, toRow)}. */
+    public int[] topRowsBySalary(int limit, int fromRow, int toRow) {
+        int[] top = new int[Math.max(limit, 0)];
+        int[] topSalaries = new int[top.length];
+        int topCount = 0;
+        for (int row = fromRow; row < toRow && limit > 0; row++) {
+            int salary = salary(row);
+            if (salary == ABSENT || (topCount == limit && salary <= topSalaries[topCount - 1])) {
+                continue;
+            }
+
+            // Insert after every entry with a greater or equal salary so ties keep roster order.
+            int position = topCount == limit ? topCount - 1 : topCount++;
+            while (position > 0 && topSalaries[position - 1] < salary) {
+                top[position] = top[position - 1];
+                topSalaries[position] = topSalaries[position - 1];
+                position--;
+            }
+            top[position] = row;
+            topSalaries[position] = salary;
+        }
+        return Arrays.copyOf(top, topCount);
+    }
+
+    // Only ids that render back to exactly the same string are packed, so ids like "9001" round-trip unchanged.
+    static UUID canonicalUuid(String id) {
+        if (Objects.isNull(id) || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    static String nameKeyOf(String name) {
+        return StringUtils.isBlank(name) ? null : NameKey.of(name);
+    }
+
+    public static final class Builder {
+        private final StringPool pool = new StringPool();
+        private int size;
+        private boolean hasRawIds;
+        private long[] idMostSignificantBits;
+        private long[] idLeastSignificantBits;
+        private int[] rawIdRefs;
+        private int[] salaries;
+        private int[] ages;
+        private int[] nameRefs;
+        private int[] nameKeyRefs;
+        private int[] titleRefs;
+        private int[] emailRefs;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            idMostSignificantBits = new long[capacity];
+            idLeastSignificantBits = new long[capacity];
+            rawIdRefs = new int[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            nameRefs = new int[capacity];
+            nameKeyRefs = new int[capacity];
+            titleRefs = new int[capacity];
+            emailRefs = new int[capacity];
+        }
+
+        public Builder add(EmployeeDTO employeeDTO) {
+            if (Objects.isNull(employeeDTO)) {
+                return this;
+            }
+            return add(
+                    employeeDTO.getId(),
+                    employeeDTO.getEmployeeName(),
+                    employeeDTO.getEmployeeSalary(),
+                    employeeDTO.getEmployeeAge(),
+                    employeeDTO.getEmployeeTitle(),
+                    employeeDTO.getEmployeeEmail());
+        }
+
+        public Builder add(String id, String name, Integer salary, Integer age, String title, String email) {
+            ensureCapacity(size + 1);
+
+            UUID uuid = canonicalUuid(id);
+            if (Objects.nonNull(uuid)) {
+                idMostSignificantBits[size] = uuid.getMostSignificantBits();
+                idLeastSignificantBits[size] = uuid.getLeastSignificantBits();
+                rawIdRefs[size] = HeapEmployeeSnapshot.PACKED_ID;
+            } else {
+                rawIdRefs[size] = pool.intern(id);
+                hasRawIds = true;
+            }
+            salaries[size] = Objects.isNull(salary) ? ABSENT : salary;
+            ages[size] = Objects.isNull(age) ? ABSENT : age;
+            nameRefs[size] = pool.intern(name);
+            nameKeyRefs[size] = pool.intern(nameKeyOf(name));
+            titleRefs[size] = pool.intern(title);
+            emailRefs[size] = pool.intern(email);
+            size++;
+            return this;
+        }
+
+        public EmployeeSnapshot build() {
+            String[] strings = pool.toArray();
+            return new HeapEmployeeSnapshot(
+                    size,
+                    Arrays.copyOf(idMostSignificantBits, size),
+                    Arrays.copyOf(idLeastSignificantBits, size),
+                    hasRawIds ? Arrays.copyOf(rawIdRefs, size) : null,
+                    Arrays.copyOf(salaries, size),
+                    Arrays.copyOf(ages, size),
+                    Arrays.copyOf(nameRefs, size),
+                    Arrays.copyOf(nameKeyRefs, size),
+                    Arrays.copyOf(titleRefs, size),
+                    Arrays.copyOf(emailRefs, size),
+                    strings,
+                    strings.length,
+                    null);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= salaries.length) {
+                return;
+            }
+            int capacity = Math.max(required, salaries.length * 2);
+            idMostSignificantBits = Arrays.copyOf(idMostSignificantBits, capacity);
+            idLeastSignificantBits = Arrays.copyOf(idLeastSignificantBits, capacity);
+            rawIdRefs = Arrays.copyOf(rawIdRefs, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            nameRefs = Arrays.copyOf(nameRefs, capacity);
+            nameKeyRefs = Arrays.copyOf(nameKeyRefs, capacity);
+            titleRefs = Arrays.copyOf(titleRefs, capacity);
+            emailRefs = Arrays.copyOf(emailRefs, capacity);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * Snapshot whose columns are plain Java arrays; produced by {@link EmployeeSnapshot.Builder}.
+ */
+final class HeapEmployeeSnapshot extends EmployeeSnapshot {
+
+    // rawIdRefs marker for rows whose id is packed into the UUID columns
+    static final int PACKED_ID = -2;
+
+    // Pool entries no row refers to any more that withChanges tolerates before compacting, beyond half the pool.
+    static final int COMPACT_AFTER_UNREFERENCED = 1024;
+
+    final int size;
+    final long[] idMostSignificantBits;
+    final long[] idLeastSignificantBits;
+    // null when every id is a canonical UUID; otherwise PACKED_ID or a pool reference per row
+    final int[] rawIdRefs;
+    final int[] salaries;
+    final int[] ages;
+    final int[] nameRefs;
+    // NameKey of each name, or NULL_REF for blank names
+    final int[] nameKeyRefs;
+    final int[] titleRefs;
+    final int[] emailRefs;
+    // Only the first poolSize entries belong to this snapshot; a successor may have appended after them.
+    final String[] pool;
+    final int poolSize;
+    // Extends pool in place for the next withChanges, which takes it; the successor it builds owns it from then on.
+    private final AtomicReference<StringPool> poolExtension;
+
+    HeapEmployeeSnapshot(
+            int size,
+            long[] idMostSignificantBits,
+            long[] idLeastSignificantBits,
+            int[] rawIdRefs,
+            int[] salaries,
+            int[] ages,
+            int[] nameRefs,
+            int[] nameKeyRefs,
+            int[] titleRefs,
+            int[] emailRefs,
+            String[] pool,
+            int poolSize,
+            StringPool poolExtension) {
+        this.size = size;
+        this.idMostSignificantBits = idMostSignificantBits;
+        this.idLeastSignificantBits = idLeastSignificantBits;
+        this.rawIdRefs = rawIdRefs;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.nameRefs = nameRefs;
+        this.nameKeyRefs = nameKeyRefs;
+        this.titleRefs = titleRefs;
+        this.emailRefs = emailRefs;
+        this.pool = pool;
+        this.poolSize = poolSize;
+        this.poolExtension = new AtomicReference<>(poolExtension);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String id(int row) {
+        if (Objects.nonNull(rawIdRefs) && rawIdRefs[row] != PACKED_ID) {
+            return string(rawIdRefs[row]);
+        }
+        return new UUID(idMostSignificantBits[row], idLeastSignificantBits[row]).toString();
+    }
+
+    @Override
+    public String name(int row) {
+        return string(nameRefs[row]);
+    }
+
+    @Override
+    IntPredicate nameKeyContaining(String nameKeyFragment) {
+        return row -> {
+            int ref = nameKeyRefs[row];
+            return ref != StringPool.NULL_REF && pool[ref].contains(nameKeyFragment);
+        };
+    }
+
+    @Override
+    public String title(int row) {
+        return string(titleRefs[row]);
+    }
+
+    @Override
+    public String email(int row) {
+        return string(emailRefs[row]);
+    }
+
+    @Override
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    @Override
+    public int age(int row) {
+        return ages[row];
+    }
+
+    @Override
+    HeapEmployeeSnapshot heapCopy() {
+        return this;
+    }
+
+    /**
+     * Copies the surviving rows column by column and appends the created ones. Their strings are interned against the
+     * existing pool, which is extended in place rather than copied when this is the latest snapshot. Once more than
+     * half the pool, and over {@link #COMPACT_AFTER_UNREFERENCED} entries, is no longer referenced by any row, the pool
+     * is rebuilt from the live entries.
+     */
+    @Override
+    public EmployeeSnapshot withChanges(RosterChanges changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+
+        Set<UUID> touchedUuids = new HashSet<>();
+        Set<String> touchedRawIds = new HashSet<>();
+        for (String id : changes.touchedIds()) {
+            UUID uuid = canonicalUuid(id);
+            if (Objects.nonNull(uuid)) {
+                touchedUuids.add(uuid);
+            } else {
+                touchedRawIds.add(id);
+            }
+        }
+
+        BitSet removedRows = new BitSet(size);
+        Set<String> presentIds = new HashSet<>();
+        for (int row = 0; row < size; row++) {
+            String id = touchedId(row, touchedUuids, touchedRawIds);
+            if (Objects.isNull(id)) {
+                continue;
+            }
+            if (changes.isDeleted(id)) {
+                removedRows.set(row);
+            } else {
+                presentIds.add(id);
+            }
+        }
+
+        List<EmployeeDTO> appended = changes.created().stream()
+                .filter(employeeDTO -> !presentIds.contains(employeeDTO.getId()))
+                .toList();
+        int keptSize = size - removedRows.cardinality();
+        int newSize = keptSize + appended.size();
+
+        long[] newIdMostSignificantBits = new long[newSize];
+        long[] newIdLeastSignificantBits = new long[newSize];
+        int[] newRawIdRefs = new int[newSize];
+        int[] newSalaries = new int[newSize];
+        int[] newAges = new int[newSize];
+        int[] newNameRefs = new int[newSize];
+        int[] newNameKeyRefs = new int[newSize];
+        int[] newTitleRefs = new int[newSize];
+        int[] newEmailRefs = new int[newSize];
+        boolean hasRawIds = false;
+
+        int target = 0;
+        for (int row = removedRows.nextClearBit(0); row < size; row = removedRows.nextClearBit(row + 1)) {
+            newIdMostSignificantBits[target] = idMostSignificantBits[row];
+            newIdLeastSignificantBits[target] = idLeastSignificantBits[row];
+            newRawIdRefs[target] = Objects.isNull(rawIdRefs) ? PACKED_ID : rawIdRefs[row];
+            hasRawIds |= newRawIdRefs[target] != PACKED_ID;
+            newSalaries[target] = salaries[row];
+            newAges[target] = ages[row];
+            newNameRefs[target] = nameRefs[row];
+            newNameKeyRefs[target] = nameKeyRefs[row];
+            newTitleRefs[target] = titleRefs[row];
+            newEmailRefs[target] = emailRefs[row];
+            target++;
+        }
+
+        StringPool strings = takePoolExtension();
+        for (EmployeeDTO employeeDTO : appended) {
+            UUID uuid = canonicalUuid(employeeDTO.getId());
+            if (Objects.nonNull(uuid)) {
+                newIdMostSignificantBits[target] = uuid.getMostSignificantBits();
+                newIdLeastSignificantBits[target] = uuid.getLeastSignificantBits();
+                newRawIdRefs[target] = PACKED_ID;
+            } else {
+                newRawIdRefs[target] = strings.intern(employeeDTO.getId());
+                hasRawIds = true;
+            }
+            newSalaries[target] =
+                    Objects.isNull(employeeDTO.getEmployeeSalary()) ? ABSENT : employeeDTO.getEmployeeSalary();
+            newAges[target] = Objects.isNull(employeeDTO.getEmployeeAge()) ? ABSENT : employeeDTO.getEmployeeAge();
+            newNameRefs[target] = strings.intern(employeeDTO.getEmployeeName());
+            newNameKeyRefs[target] = strings.intern(nameKeyOf(employeeDTO.getEmployeeName()));
+            newTitleRefs[target] = strings.intern(employeeDTO.getEmployeeTitle());
+            newEmailRefs[target] = strings.intern(employeeDTO.getEmployeeEmail());
+            target++;
+        }
+
+        int[][] refColumns = {newRawIdRefs, newNameRefs, newNameKeyRefs, newTitleRefs, newEmailRefs};
+        BitSet referenced = new BitSet(strings.size());
+        for (int[] refs : refColumns) {
+            for (int row = 0; row < newSize; row++) {
+                if (refs[row] >= 0) {
+                    referenced.set(refs[row]);
+                }
+            }
+        }
+        int unreferenced = strings.size() - referenced.cardinality();
+        if (unreferenced > COMPACT_AFTER_UNREFERENCED && unreferenced > strings.size() / 2) {
+            strings = compact(strings, referenced, refColumns, newSize);
+        }
+
+        return new HeapEmployeeSnapshot(
+                newSize,
+                newIdMostSignificantBits,
+                newIdLeastSignificantBits,
+                hasRawIds ? newRawIdRefs : null,
+                newSalaries,
+                newAges,
+                newNameRefs,
+                newNameKeyRefs,
+                newTitleRefs,
+                newEmailRefs,
+                strings.values(),
+                strings.size(),
+                strings);
+    }
+
+    // Ours to extend in place unless a successor already took it; then its array may hold appends past poolSize.
+    private StringPool takePoolExtension() {
+        StringPool owned = poolExtension.getAndSet(null);
+        if (Objects.nonNull(owned)) {
+            return owned;
+        }
+        return StringPool.extending(Arrays.copyOf(pool, poolSize + poolSize / 8 + 16), poolSize);
+    }
+
+    // Keeps only the referenced entries, in their original order, and rewrites every ref column to match.
+    private static StringPool compact(StringPool strings, BitSet referenced, int[][] refColumns, int rows) {
+        StringPool compacted = new StringPool();
+        int[] remapped = new int[strings.size()];
+        for (int ref = referenced.nextSetBit(0); ref >= 0; ref = referenced.nextSetBit(ref + 1)) {
+            remapped[ref] = compacted.intern(strings.value(ref));
+        }
+        for (int[] refs : refColumns) {
+            for (int row = 0; row < rows; row++) {
+                if (refs[row] >= 0) {
+                    refs[row] = remapped[refs[row]];
+                }
+            }
+        }
+        return compacted;
+    }
+
+    private String touchedId(int row, Set<UUID> touchedUuids, Set<String> touchedRawIds) {
+        if (Objects.nonNull(rawIdRefs) && rawIdRefs[row] != PACKED_ID) {
+            String rawId = string(rawIdRefs[row]);
+            return Objects.nonNull(rawId) && touchedRawIds.contains(rawId) ? rawId : null;
+        }
+        if (touchedUuids.isEmpty()) {
+            return null;
+        }
+        UUID uuid = new UUID(idMostSignificantBits[row], idLeastSignificantBits[row]);
+        return touchedUuids.contains(uuid) ? uuid.toString() : null;
+    }
+
+    private String string(int ref) {
+        return ref == StringPool.NULL_REF ? null : pool[ref];
+    }
+}
@@ -0,0 +1,275 @@
+package com.reliaquest.api.roster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * Snapshot backed by a read-only memory-mapped file, so its columns live in the page cache rather than on the Java
+ * heap. Only strings are decoded on access; name searches compare the UTF-8 bytes of the stored name keys in place.
+ *
+ * <p>File layout (little-endian): a 64 byte header, the UUID columns, the optional raw id column, the int columns,
+ * then the string pool as {@code poolSize + 1} offsets followed by the UTF-8 bytes.
+ */
+public final class MappedEmployeeSnapshot extends EmployeeSnapshot {
+
+    private static final int MAGIC = 0x52514553; // "RQES"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int FLAG_RAW_IDS = 1;
+
+    private final ByteBuffer buffer;
+    private final Layout layout;
+    private final Instant createdAt;
+
+    private MappedEmployeeSnapshot(ByteBuffer buffer, Layout layout, Instant createdAt) {
+        this.buffer = buffer;
+        this.layout = layout;
+        this.createdAt = createdAt;
+    }
+
+    public static MappedEmployeeSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected roster snapshot size " + fileSize + " for " + file);
+            }
+
+            // The mapping stays valid after the channel is closed.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a version " + VERSION + " roster snapshot: " + file);
+            }
+
+            Layout layout = new Layout(
+                    buffer.getInt(16),
+                    buffer.getInt(20),
+                    (buffer.getInt(24) & FLAG_RAW_IDS) != 0,
+                    buffer.getLong(32));
+            if (layout.totalBytes != fileSize) {
+                throw new IOException("Truncated roster snapshot: expected " + layout.totalBytes + " bytes, found "
+                        + fileSize + " in " + file);
+            }
+            return new MappedEmployeeSnapshot(buffer, layout, Instant.ofEpochMilli(buffer.getLong(8)));
+        }
+    }
+
+    /**
+     * Writes the snapshot next to {@code file} and atomically moves it into place, so readers never map a partially
+     * written file.
+     */
+    public static void write(EmployeeSnapshot snapshot, Instant createdAt, Path file) throws IOException {
+        HeapEmployeeSnapshot heap = snapshot.heapCopy();
+
+        byte[][] poolBytes = new byte[heap.poolSize][];
+        long poolBytesLength = 0;
+        for (int ref = 0; ref < poolBytes.length; ref++) {
+            poolBytes[ref] = heap.pool[ref].getBytes(StandardCharsets.UTF_8);
+            poolBytesLength += poolBytes[ref].length;
+        }
+
+        Layout layout = new Layout(heap.size, poolBytes.length, Objects.nonNull(heap.rawIdRefs), poolBytesLength);
+        if (layout.totalBytes > Integer.MAX_VALUE) {
+            throw new IOException("Roster snapshot of " + layout.totalBytes + " bytes is too large to map");
+        }
+
+        Path absoluteFile = file.toAbsolutePath();
+        Files.createDirectories(absoluteFile.getParent());
+        Path temporaryFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.totalBytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, createdAt.toEpochMilli());
+            buffer.putInt(16, layout.rowCount);
+            buffer.putInt(20, layout.poolSize);
+            buffer.putInt(24, layout.hasRawIds ? FLAG_RAW_IDS : 0);
+            buffer.putLong(32, layout.poolBytesLength);
+
+            buffer.position((int) layout.idMostSignificantBitsOffset);
+            buffer.asLongBuffer().put(heap.idMostSignificantBits);
+            buffer.position((int) layout.idLeastSignificantBitsOffset);
+            buffer.asLongBuffer().put(heap.idLeastSignificantBits);
+            if (layout.hasRawIds) {
+                buffer.position((int) layout.rawIdRefsOffset);
+                buffer.asIntBuffer().put(heap.rawIdRefs);
+            }
+            buffer.position((int) layout.salariesOffset);
+            buffer.asIntBuffer().put(heap.salaries);
+            buffer.position((int) layout.agesOffset);
+            buffer.asIntBuffer().put(heap.ages);
+            buffer.position((int) layout.nameRefsOffset);
+            buffer.asIntBuffer().put(heap.nameRefs);
+            buffer.position((int) layout.nameKeyRefsOffset);
+            buffer.asIntBuffer().put(heap.nameKeyRefs);
+            buffer.position((int) layout.titleRefsOffset);
+            buffer.asIntBuffer().put(heap.titleRefs);
+            buffer.position((int) layout.emailRefsOffset);
+            buffer.asIntBuffer().put(heap.emailRefs);
+
+            int poolOffset = 0;
+            buffer.position((int) layout.poolBytesOffset);
+            for (int ref = 0; ref < poolBytes.length; ref++) {
+                buffer.putInt((int) layout.poolOffsetsOffset + (ref << 2), poolOffset);
+                buffer.put(poolBytes[ref]);
+                poolOffset += poolBytes[ref].length;
+            }
+            buffer.putInt((int) layout.poolOffsetsOffset + (poolBytes.length << 2), poolOffset);
+
+            buffer.force();
+        }
+        Files.move(
+                temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    @Override
+    public int size() {
+        return layout.rowCount;
+    }
+
+    @Override
+    public String id(int row) {
+        if (layout.hasRawIds) {
+            int rawIdRef = intAt(layout.rawIdRefsOffset, row);
+            if (rawIdRef != HeapEmployeeSnapshot.PACKED_ID) {
+                return string(rawIdRef);
+            }
+        }
+        return new UUID(
+                        buffer.getLong((int) layout.idMostSignificantBitsOffset + (row << 3)),
+                        buffer.getLong((int) layout.idLeastSignificantBitsOffset + (row << 3)))
+                .toString();
+    }
+
+    @Override
+    public String name(int row) {
+        return string(intAt(layout.nameRefsOffset, row));
+    }
+
+    @Override
+    IntPredicate nameKeyContaining(String nameKeyFragment) {
+        byte[] fragment = nameKeyFragment.getBytes(StandardCharsets.UTF_8);
+        return row -> {
+            int ref = intAt(layout.nameKeyRefsOffset, row);
+            if (ref == StringPool.NULL_REF) {
+                return false;
+            }
+            int start = (int) layout.poolBytesOffset + intAt(layout.poolOffsetsOffset, ref);
+            int end = (int) layout.poolBytesOffset + intAt(layout.poolOffsetsOffset, ref + 1);
+            return contains(start, end, fragment);
+        };
+    }
+
+    @Override
+    public String title(int row) {
+        return string(intAt(layout.titleRefsOffset, row));
+    }
+
+    @Override
+    public String email(int row) {
+        return string(intAt(layout.emailRefsOffset, row));
+    }
+
+    @Override
+    public int salary(int row) {
+        return intAt(layout.salariesOffset, row);
+    }
+
+    @Override
+    public int age(int row) {
+        return intAt(layout.agesOffset, row);
+    }
+
+    private int intAt(long columnOffset, int row) {
+        return buffer.getInt((int) columnOffset + (row << 2));
+    }
+
+    // UTF-8 is self-synchronizing, so matching bytes always means matching whole characters.
+    private boolean contains(int start, int end, byte[] fragment) {
+        for (int position = start; position <= end - fragment.length; position++) {
+            int matched = 0;
+            while (matched < fragment.length && buffer.get(position + matched) == fragment[matched]) {
+                matched++;
+            }
+            if (matched == fragment.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String string(int ref) {
+        if (ref == StringPool.NULL_REF) {
+            return null;
+        }
+        int start = intAt(layout.poolOffsetsOffset, ref);
+        int end = intAt(layout.poolOffsetsOffset, ref + 1);
+        byte[] bytes = new byte[end - start];
+        buffer.get((int) layout.poolBytesOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Layout {
+        final int rowCount;
+        final int poolSize;
+        final boolean hasRawIds;
+        final long poolBytesLength;
+        final long idMostSignificantBitsOffset;
+        final long idLeastSignificantBitsOffset;
+        final long rawIdRefsOffset;
+        final long salariesOffset;
+        final long agesOffset;
+        final long nameRefsOffset;
+        final long nameKeyRefsOffset;
+        final long titleRefsOffset;
+        final long emailRefsOffset;
+        final long poolOffsetsOffset;
+        final long poolBytesOffset;
+        final long totalBytes;
+
+        Layout(int rowCount, int poolSize, boolean hasRawIds, long poolBytesLength) {
+            this.rowCount = rowCount;
+            this.poolSize = poolSize;
+            this.hasRawIds = hasRawIds;
+            this.poolBytesLength = poolBytesLength;
+
+            long longColumnBytes = (long) rowCount << 3;
+            long intColumnBytes = (long) rowCount << 2;
+            idMostSignificantBitsOffset = HEADER_BYTES;
+            idLeastSignificantBitsOffset = idMostSignificantBitsOffset + longColumnBytes;
+            rawIdRefsOffset = idLeastSignificantBitsOffset + longColumnBytes;
+            salariesOffset = rawIdRefsOffset + (hasRawIds ? intColumnBytes : 0);
+            agesOffset = salariesOffset + intColumnBytes;
+            nameRefsOffset = agesOffset + intColumnBytes;
+            nameKeyRefsOffset = nameRefsOffset + intColumnBytes;
+            titleRefsOffset = nameKeyRefsOffset + intColumnBytes;
+            emailRefsOffset = titleRefsOffset + intColumnBytes;
+            poolOffsetsOffset = emailRefsOffset + intColumnBytes;
+            poolBytesOffset = poolOffsetsOffset + (((long) poolSize + 1) << 2);
+            totalBytes = poolBytesOffset + poolBytesLength;
+        }
+    }
+}
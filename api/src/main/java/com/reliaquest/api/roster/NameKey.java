@@ -0,0 +1,38 @@
+package com.reliaquest.api.roster;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Case- and compatibility-folded form of an employee name, so that "Stra&szlig;e" and "STRASSE", or a name typed in
+ * full-width letters and its ASCII spelling, compare equal with a plain {@link String#equals} or
+ * {@link String#contains}. Keys are computed once per name when a snapshot is built; queries fold only their own
+ * argument. The mock server folds names the same way.
+ */
+public final class NameKey {
+
+    private NameKey() {}
+
+    public static String of(String name) {
+        if (Objects.isNull(name)) {
+            return null;
+        }
+        if (isAscii(name)) {
+            // Returns name itself when it is already lower case.
+            return name.toLowerCase(Locale.ROOT);
+        }
+        String compatible = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        String folded = compatible.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(folded, Normalizer.Form.NFKC);
+    }
+
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
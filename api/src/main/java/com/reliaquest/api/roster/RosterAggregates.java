@@ -0,0 +1,126 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Aggregates over one {@link EmployeeSnapshot}, computed in a single pass plus one sort per ordering so that every
+ * query afterwards is a lookup: the roster's {@link SalaryDistribution}, one per title, and rows ranked by salary and
+ * by age. Employees without a title are left out of the per-title groups.
+ */
+public final class RosterAggregates {
+
+    private final EmployeeSnapshot snapshot;
+    private final SalaryDistribution salaries;
+    private final Map<String, SalaryDistribution> salariesByTitle;
+    private final int[] rowsBySalary;
+    private final int[] rowsByAge;
+
+    private RosterAggregates(EmployeeSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.rowsBySalary = ranked(snapshot, snapshot::salary);
+        this.rowsByAge = ranked(snapshot, snapshot::age);
+        this.salaries = new SalaryDistribution(snapshot.size(), salariesOf(snapshot, rowsBySalary));
+        this.salariesByTitle = Collections.unmodifiableMap(groupByTitle(snapshot));
+    }
+
+    public static RosterAggregates of(EmployeeSnapshot snapshot) {
+        return new RosterAggregates(snapshot);
+    }
+
+    public EmployeeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public SalaryDistribution salaries() {
+        return salaries;
+    }
+
+    /** Distribution for one title, matched exactly, or {@code null} when no employee has it. */
+    public SalaryDistribution salaries(String title) {
+        return salariesByTitle.get(title);
+    }
+
+    /** Per-title distributions in title order. */
+    public Map<String, SalaryDistribution> salariesByTitle() {
+        return salariesByTitle;
+    }
+
+    /** Up to {@code limit} rows with a salary, highest first; equal salaries keep roster order. */
+    public int[] topRowsBySalary(int limit) {
+        return Arrays.copyOf(rowsBySalary, Math.min(Math.max(limit, 0), rowsBySalary.length));
+    }
+
+    /** Up to {@code limit} rows with an age, oldest first; equal ages keep roster order. */
+    public int[] topRowsByAge(int limit) {
+        return Arrays.copyOf(rowsByAge, Math.min(Math.max(limit, 0), rowsByAge.length));
+    }
+
+    // Rows with a value, highest first. Each row is packed with its negated value into one long, so a primitive sort
+    // orders by value and then by row without boxing.
+    private static int[] ranked(EmployeeSnapshot snapshot, IntUnaryOperator column) {
+        long[] keys = new long[snapshot.size()];
+        int count = 0;
+        for (int row = 0; row < snapshot.size(); row++) {
+            int value = column.applyAsInt(row);
+            if (value != EmployeeSnapshot.ABSENT) {
+                keys[count++] = (-(long) value << 32) | row;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+
+    private static int[] salariesOf(EmployeeSnapshot snapshot, int[] rows) {
+        int[] salaries = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            salaries[i] = snapshot.salary(rows[i]);
+        }
+        return salaries;
+    }
+
+    private static Map<String, SalaryDistribution> groupByTitle(EmployeeSnapshot snapshot) {
+        // First pass sizes each group's salary array, the second fills it.
+        Map<String, Group> groups = new HashMap<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            String title = snapshot.title(row);
+            if (Objects.nonNull(title)) {
+                Group group = groups.computeIfAbsent(title, ignored -> new Group());
+                group.employees++;
+                if (snapshot.salary(row) != EmployeeSnapshot.ABSENT) {
+                    group.salaried++;
+                }
+            }
+        }
+        groups.values().forEach(group -> group.salaries = new int[group.salaried]);
+        for (int row = 0; row < snapshot.size(); row++) {
+            String title = snapshot.title(row);
+            int salary = snapshot.salary(row);
+            if (Objects.nonNull(title) && salary != EmployeeSnapshot.ABSENT) {
+                Group group = groups.get(title);
+                group.salaries[group.filled++] = salary;
+            }
+        }
+
+        Map<String, SalaryDistribution> distributions = new TreeMap<>();
+        groups.forEach(
+                (title, group) -> distributions.put(title, new SalaryDistribution(group.employees, group.salaries)));
+        return distributions;
+    }
+
+    private static final class Group {
+        private int employees;
+        private int salaried;
+        private int filled;
+        private int[] salaries;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Net effect of a run of roster mutations, folded in order. Applying it to a snapshot is idempotent: creates of ids
+ * that are already present and deletes of ids that are absent are ignored.
+ */
+public final class RosterChanges {
+
+    private final Map<String, EmployeeDTO> created = new LinkedHashMap<>();
+    private final Set<String> deleted = new HashSet<>();
+
+    public RosterChanges created(EmployeeDTO employeeDTO) {
+        if (Objects.nonNull(employeeDTO) && Objects.nonNull(employeeDTO.getId())) {
+            deleted.remove(employeeDTO.getId());
+            created.put(employeeDTO.getId(), employeeDTO);
+        }
+        return this;
+    }
+
+    public RosterChanges deleted(String id) {
+        if (Objects.nonNull(id)) {
+            created.remove(id);
+            deleted.add(id);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return created.isEmpty() && deleted.isEmpty();
+    }
+
+    Collection<EmployeeDTO> created() {
+        return created.values();
+    }
+
+    boolean isDeleted(String id) {
+        return deleted.contains(id);
+    }
+
+    Set<String> touchedIds() {
+        Set<String> touchedIds = new HashSet<>(deleted);
+        touchedIds.addAll(created.keySet());
+        return touchedIds;
+    }
+}
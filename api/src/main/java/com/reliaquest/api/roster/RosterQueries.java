@@ -0,0 +1,140 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.properties.RosterProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates roster queries either directly on the snapshot or, for snapshots of at least
+ * {@code employee-roster.parallel.threshold} rows, as per-chunk partial results on a dedicated {@link ForkJoinPool}
+ * that are merged in row order. Both paths return identical results. {@link RosterAggregates} for the most recent
+ * snapshot are kept and reused until a different snapshot is queried.
+ */
+@Component
+public class RosterQueries {
+
+    private final RosterProperties.Parallel parallelProperties;
+    private final ForkJoinPool forkJoinPool;
+    private final AtomicReference<RosterAggregates> aggregates = new AtomicReference<>();
+
+    public RosterQueries(RosterProperties rosterProperties) {
+        this.parallelProperties = rosterProperties.getParallel();
+        this.forkJoinPool = new ForkJoinPool(
+                parallelProperties.getParallelism(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("roster-query-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    public int[] rowsWithNameContaining(EmployeeSnapshot snapshot, String nameKeyFragment) {
+        if (isSequential(snapshot)) {
+            return snapshot.rowsWithNameContaining(nameKeyFragment);
+        }
+        return forkJoinPool.invoke(new ChunkTask<int[]>(
+                0,
+                snapshot.size(),
+                (fromRow, toRow) -> snapshot.rowsWithNameContaining(nameKeyFragment, fromRow, toRow),
+                RosterQueries::concat));
+    }
+
+    public Integer highestSalary(EmployeeSnapshot snapshot) {
+        if (isSequential(snapshot)) {
+            return snapshot.highestSalary();
+        }
+        int highest = forkJoinPool.invoke(
+                new ChunkTask<Integer>(0, snapshot.size(), snapshot::highestSalary, Integer::max));
+        return highest == EmployeeSnapshot.ABSENT ? null : highest;
+    }
+
+    public int[] topRowsBySalary(EmployeeSnapshot snapshot, int limit) {
+        if (isSequential(snapshot)) {
+            return snapshot.topRowsBySalary(limit);
+        }
+        return forkJoinPool.invoke(new ChunkTask<int[]>(
+                0,
+                snapshot.size(),
+                (fromRow, toRow) -> snapshot.topRowsBySalary(limit, fromRow, toRow),
+                (left, right) -> mergeBySalary(snapshot, limit, left, right)));
+    }
+
+    public RosterAggregates aggregates(EmployeeSnapshot snapshot) {
+        RosterAggregates cached = aggregates.get();
+        if (Objects.nonNull(cached) && cached.snapshot() == snapshot) {
+            return cached;
+        }
+        RosterAggregates built = RosterAggregates.of(snapshot);
+        aggregates.set(built);
+        return built;
+    }
+
+    private boolean isSequential(EmployeeSnapshot snapshot) {
+        return snapshot.size() < parallelProperties.getThreshold();
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+
+    // Left rows precede right rows, so taking left on ties keeps roster order for equal salaries.
+    private static int[] mergeBySalary(EmployeeSnapshot snapshot, int limit, int[] left, int[] right) {
+        int[] merged = new int[Math.min(limit, left.length + right.length)];
+        int leftIndex = 0;
+        int rightIndex = 0;
+        for (int i = 0; i < merged.length; i++) {
+            boolean takeLeft = rightIndex == right.length
+                    || (leftIndex < left.length
+                            && snapshot.salary(left[leftIndex]) >= snapshot.salary(right[rightIndex]));
+            merged[i] = takeLeft ? left[leftIndex++] : right[rightIndex++];
+        }
+        return merged;
+    }
+
+    @FunctionalInterface
+    private interface RangeQuery<T> {
+        T evaluate(int fromRow, int toRow);
+    }
+
+    private final class ChunkTask<T> extends RecursiveTask<T> {
+        private final int fromRow;
+        private final int toRow;
+        private final RangeQuery<T> query;
+        private final BinaryOperator<T> merge;
+
+        private ChunkTask(int fromRow, int toRow, RangeQuery<T> query, BinaryOperator<T> merge) {
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.query = query;
+            this.merge = merge;
+        }
+
+        @Override
+        protected T compute() {
+            if (toRow - fromRow <= parallelProperties.getChunkSize()) {
+                return query.evaluate(fromRow, toRow);
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            ChunkTask<T> right = new ChunkTask<>(middle, toRow, query, merge);
+            right.fork();
+            T left = new ChunkTask<>(fromRow, middle, query, merge).compute();
+            return merge.apply(left, right.join());
+        }
+    }
+}
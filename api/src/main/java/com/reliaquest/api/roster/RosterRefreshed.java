@@ -0,0 +1,4 @@
+package com.reliaquest.api.roster;
+
+/** Published by {@link EmployeeRoster} each time a refresh installs a new snapshot. */
+public record RosterRefreshed(EmployeeSnapshot snapshot) {}
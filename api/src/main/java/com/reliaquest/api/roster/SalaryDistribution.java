@@ -0,0 +1,77 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+
+/**
+ * Salaries of a group of employees, sorted ascending once so that percentiles are an array lookup and range counts a
+ * pair of binary searches. Employees without a salary count towards {@link #employees()} only.
+ */
+public final class SalaryDistribution {
+
+    private final int employees;
+    private final int[] sortedSalaries;
+    private final long total;
+
+    SalaryDistribution(int employees, int[] salaries) {
+        Arrays.sort(salaries);
+        long sum = 0;
+        for (int salary : salaries) {
+            sum += salary;
+        }
+        this.employees = employees;
+        this.sortedSalaries = salaries;
+        this.total = sum;
+    }
+
+    public int employees() {
+        return employees;
+    }
+
+    public int salaried() {
+        return sortedSalaries.length;
+    }
+
+    public boolean isEmpty() {
+        return sortedSalaries.length == 0;
+    }
+
+    /** Nearest-rank percentile, {@code 0 <= percentile <= 100}, or {@code null} without salaries. */
+    public Integer percentile(double percentile) {
+        if (isEmpty()) {
+            return null;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedSalaries.length);
+        return sortedSalaries[Math.max(rank, 1) - 1];
+    }
+
+    public Integer min() {
+        return isEmpty() ? null : sortedSalaries[0];
+    }
+
+    public Integer max() {
+        return isEmpty() ? null : sortedSalaries[sortedSalaries.length - 1];
+    }
+
+    public Double average() {
+        return isEmpty() ? null : (double) total / sortedSalaries.length;
+    }
+
+    /** Salaries in {@code [from, to)}. */
+    public int countBetween(long from, long to) {
+        return firstIndexAtLeast(to) - firstIndexAtLeast(from);
+    }
+
+    private int firstIndexAtLeast(long salary) {
+        int low = 0;
+        int high = sortedSalaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedSalaries[middle] < salary) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Deduplicates strings while a snapshot is being built; each distinct value is stored once and rows refer to it by
+ * index. A pool can also extend the pool of an existing snapshot, appending into its array while there is room.
+ */
+final class StringPool {
+
+    static final int NULL_REF = -1;
+
+    private final Map<String, Integer> refs;
+    private String[] values;
+    private int size;
+
+    StringPool() {
+        this(new String[16], 0, new HashMap<>());
+    }
+
+    private StringPool(String[] values, int size, Map<String, Integer> refs) {
+        this.values = values;
+        this.size = size;
+        this.refs = refs;
+    }
+
+    /** Pool over the first {@code size} entries of {@code values}; the entries after them must be free to overwrite. */
+    static StringPool extending(String[] values, int size) {
+        Map<String, Integer> refs = new HashMap<>(size * 4 / 3 + 1);
+        for (int ref = 0; ref < size; ref++) {
+            refs.putIfAbsent(values[ref], ref);
+        }
+        return new StringPool(values, size, refs);
+    }
+
+    int intern(String value) {
+        if (Objects.isNull(value)) {
+            return NULL_REF;
+        }
+        return refs.computeIfAbsent(value, this::append);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String value(int ref) {
+        return values[ref];
+    }
+
+    /** The backing array; only the first {@link #size()} entries are in use. */
+    String[] values() {
+        return values;
+    }
+
+    String[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private int append(String value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(16, size * 2));
+        }
+        values[size] = value;
+        return size++;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.Employee;
+
+/** Published by {@link EmployeeService} once upstream has accepted a create or delete. */
+public record EmployeeMutated(Type type, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -1,17 +1,24 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.IdempotencyCache;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.client.dto.EmployeeDTO;
 import com.reliaquest.api.client.dto.UpstreamDeleteEmployeeRequest;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.mapper.EmployeeMapper;
-import java.util.Comparator;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import com.reliaquest.api.roster.NameKey;
+import com.reliaquest.api.roster.RosterQueries;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -22,11 +29,18 @@ import org.springframework.web.server.ResponseStatusException;
 public class EmployeeService {
     private final EmployeeClient employeeClient;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeRoster employeeRoster;
+    private final RosterQueries rosterQueries;
+    private final EmployeeCache employeeCache;
+    private final IdempotencyCache idempotencyCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Employee> getAllEmployees() {
-        List<EmployeeDTO> allEmployeesList = employeeClient.getAllEmployees();
+        return employeeMapper.toEmployees(employeeRoster.snapshot());
+    }
 
-        return employeeMapper.toEmployees(allEmployeesList);
+    public EmployeeSnapshot getEmployeeSnapshot() {
+        return employeeRoster.snapshot();
     }
 
     public List<Employee> getEmployeesByNameSearch(String searchString) {
@@ -34,16 +48,11 @@ public class EmployeeService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search string must not be blank");
         }
 
-        String normalizedSearchString = searchString.trim().toLowerCase();
-        List<EmployeeDTO> allEmployeesDTOList = employeeClient.getAllEmployees();
+        String normalizedSearchString = NameKey.of(searchString.trim());
+        EmployeeSnapshot snapshot = employeeRoster.snapshot();
 
-        return allEmployeesDTOList.stream()
-                .filter(employeeDTO ->
-                        Objects.nonNull(employeeDTO) && StringUtils.isNotBlank(employeeDTO.getEmployeeName()))
-                .filter(employeeDTO ->
-                        employeeDTO.getEmployeeName().toLowerCase().contains(normalizedSearchString))
-                .map(employeeMapper::toEmployee)
-                .toList();
+        return employeeMapper.toEmployees(
+                snapshot, rosterQueries.rowsWithNameContaining(snapshot, normalizedSearchString));
     }
 
     public Employee getByEmployeeId(String id) {
@@ -51,34 +60,30 @@ public class EmployeeService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Employee id must not be blank");
         }
 
-        EmployeeDTO employeeDTO = employeeClient.getByEmployeeId(id);
-        return employeeMapper.toEmployee(employeeDTO);
+        return employeeCache.get(id, () -> employeeMapper.toEmployee(employeeClient.getByEmployeeId(id)));
     }
 
     public Integer getHighestSalaryOfEmployees() {
-        List<EmployeeDTO> allEmployeesDTOList = employeeClient.getAllEmployees();
-
-        return allEmployeesDTOList.stream()
-                .filter(employeeDTO -> Objects.nonNull(employeeDTO) && Objects.nonNull(employeeDTO.getEmployeeSalary()))
-                .map(EmployeeDTO::getEmployeeSalary)
-                .max(Integer::compare)
-                .orElse(null);
+        return rosterQueries.highestSalary(employeeRoster.snapshot());
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> employeesList = getAllEmployees();
+        EmployeeSnapshot snapshot = employeeRoster.snapshot();
 
-        return employeesList.stream()
-                .filter(employee -> Objects.nonNull(employee) && Objects.nonNull(employee.getSalary()))
-                .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                .limit(10)
-                .map(Employee::getName)
+        return Arrays.stream(rosterQueries.topRowsBySalary(snapshot, 10))
+                .mapToObj(snapshot::name)
                 .toList();
     }
 
-    public Employee createEmployee(CreateEmployeeRequest createEmployeeRequestBody) {
-        EmployeeDTO employeeDTO = employeeClient.createEmployee(createEmployeeRequestBody);
-        return employeeMapper.toEmployee(employeeDTO);
+    /** Creates the employee, or returns the one already created for {@code idempotencyKey}, which may be null. */
+    public Employee createEmployee(CreateEmployeeRequest createEmployeeRequestBody, String idempotencyKey) {
+        return idempotencyCache.get(idempotencyKey, createEmployeeRequestBody, () -> {
+            EmployeeDTO employeeDTO = employeeClient.createEmployee(createEmployeeRequestBody, idempotencyKey);
+            Employee createdEmployee = employeeMapper.toEmployee(employeeDTO);
+            employeeCache.put(createdEmployee);
+            eventPublisher.publishEvent(new EmployeeMutated(EmployeeMutated.Type.CREATED, createdEmployee));
+            return createdEmployee;
+        });
     }
 
     public String deleteEmployeeById(String id) {
@@ -93,6 +98,7 @@ public class EmployeeService {
         upstreamDeleteEmployeeRequest.setName(employee.getName());
 
         boolean isDeletionSuccessful = employeeClient.deleteEmployeeByName(upstreamDeleteEmployeeRequest);
+        employeeCache.invalidate(id);
 
         if (!isDeletionSuccessful) {
             log.debug("Upstream delete request returned false. id={}, name={}", id, employee.getName());
@@ -100,6 +106,7 @@ public class EmployeeService {
                     HttpStatus.BAD_GATEWAY, "Upstream delete request returned false for name: " + employee.getName());
         }
 
+        eventPublisher.publishEvent(new EmployeeMutated(EmployeeMutated.Type.DELETED, employee));
         return employee.getName();
     }
 }
@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.TitleStatistics;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterAggregates;
+import com.reliaquest.api.roster.RosterQueries;
+import com.reliaquest.api.roster.SalaryDistribution;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Ranked and aggregate queries, answered from the {@link RosterAggregates} of the current roster snapshot. */
+@Service
+@RequiredArgsConstructor
+public class EmployeeStatisticsService {
+    static final int MAX_LIMIT = 1_000;
+    static final int MAX_BUCKETS = 100;
+
+    private final EmployeeRoster employeeRoster;
+    private final RosterQueries rosterQueries;
+    private final EmployeeMapper employeeMapper;
+
+    public List<Employee> getTopEmployees(String rankBy, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        RosterAggregates aggregates = aggregates();
+        int[] rows =
+                switch (rankBy.toLowerCase(Locale.ROOT)) {
+                    case "salary" -> aggregates.topRowsBySalary(limit);
+                    case "age" -> aggregates.topRowsByAge(limit);
+                    default -> throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST, "Employees can be ranked by salary or age");
+                };
+        return employeeMapper.toEmployees(aggregates.snapshot(), rows);
+    }
+
+    /** Nearest-rank percentiles keyed like {@code p50} and {@code p99.9}, in the order asked for. */
+    public Map<String, Integer> getSalaryPercentiles(List<Double> percentiles, String title) {
+        if (percentiles.isEmpty() || percentiles.stream().anyMatch(p -> Objects.isNull(p) || p < 0 || p > 100)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Percentiles must be between 0 and 100");
+        }
+
+        SalaryDistribution salaries = salaries(title);
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            values.put(
+                    "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                    salaries.percentile(percentile));
+        }
+        return values;
+    }
+
+    /** Equal-width buckets from the lowest to the highest salary; fewer when the range is narrower than that. */
+    public List<SalaryBucket> getSalaryHistogram(int buckets, String title) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Buckets must be between 1 and " + MAX_BUCKETS);
+        }
+
+        SalaryDistribution salaries = salaries(title);
+        if (salaries.isEmpty()) {
+            return List.of();
+        }
+        long min = salaries.min();
+        long end = salaries.max() + 1L;
+        long width = (end - min + buckets - 1) / buckets;
+        List<SalaryBucket> histogram = new ArrayList<>(buckets);
+        for (long from = min; from < end; from += width) {
+            long to = Math.min(from + width, end);
+            histogram.add(new SalaryBucket(from, to, salaries.countBetween(from, to)));
+        }
+        return histogram;
+    }
+
+    public List<TitleStatistics> getTitleStatistics() {
+        List<TitleStatistics> statistics = new ArrayList<>();
+        aggregates().salariesByTitle().forEach((title, salaries) -> statistics.add(new TitleStatistics(
+                title,
+                salaries.employees(),
+                salaries.average(),
+                salaries.min(),
+                salaries.percentile(50),
+                salaries.max())));
+        return statistics;
+    }
+
+    private SalaryDistribution salaries(String title) {
+        RosterAggregates aggregates = aggregates();
+        if (Objects.isNull(title)) {
+            return aggregates.salaries();
+        }
+
+        SalaryDistribution salaries = aggregates.salaries(title);
+        if (Objects.isNull(salaries)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No employees with title: " + title);
+        }
+        return salaries;
+    }
+
+    private RosterAggregates aggregates() {
+        return rosterQueries.aggregates(employeeRoster.snapshot());
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.properties.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limit on requests in flight that follows latency, after the gradient algorithm of Netflix's concurrency-limits. A
+ * recent and a long-term average of request latency are compared on every sample: while recent latency stays within
+ * {@code rttTolerance} of the long-term level the limit grows by {@code queueSize}, and once it rises above that the
+ * limit shrinks in proportion, by at most half per sample. The limit only grows while at least half of it is in use,
+ * so an idle service does not talk itself into a limit it has never tested. Publishes
+ * {@code employee.concurrency.limit}, {@code employee.concurrency.in_flight} and {@code employee.concurrency.rejected}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final double shortWeight;
+    private final double longWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    // Guarded by this.
+    private double shortRttNanos = -1;
+    private double longRttNanos = -1;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.shortWeight = 2.0 / (properties.getShortWindow() + 1);
+        this.longWeight = 2.0 / (properties.getLongWindow() + 1);
+        this.limit = clamp(properties.getInitialLimit());
+        Gauge.builder("employee.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("employee.concurrency.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        this.rejected = Counter.builder("employee.concurrency.rejected").register(meterRegistry);
+    }
+
+    /** Admits a request if it fits under the current limit; every {@code true} must be followed by {@link #release}. */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > getLimit()) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void release(long latencyNanos) {
+        onSample(latencyNanos, inFlight.getAndDecrement());
+    }
+
+    /** Releases an admitted request without learning from its latency, for one answered without being handled. */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlightAtCompletion) {
+        if (longRttNanos < 0) {
+            shortRttNanos = latencyNanos;
+            longRttNanos = latencyNanos;
+            return;
+        }
+        shortRttNanos += (latencyNanos - shortRttNanos) * shortWeight;
+        longRttNanos += (latencyNanos - longRttNanos) * longWeight;
+        // Once a slowdown has passed, let the long-term level come back down faster than its window would.
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+        double current = limit;
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRttNanos));
+        double estimate = current * gradient + properties.getQueueSize();
+        double smoothed = current * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = clamp(smoothed);
+    }
+
+    private double clamp(double candidate) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), candidate));
+    }
+}
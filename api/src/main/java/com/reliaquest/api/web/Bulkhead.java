@@ -0,0 +1,84 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.properties.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded concurrency for one {@link OperationClass}. A call takes a free slot at once, or waits for one behind at most
+ * {@code maxQueued} others for up to {@code maxWait}; anything else is turned away immediately instead of holding a
+ * request thread. Publishes {@code employee.bulkhead.active}, {@code employee.bulkhead.queued} and
+ * {@code employee.bulkhead.rejected}, tagged with the operation class.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(String operation, BulkheadProperties.Compartment compartment, MeterRegistry meterRegistry) {
+        this.maxConcurrent = compartment.getMaxConcurrent();
+        this.maxQueued = compartment.getMaxQueued();
+        this.maxWait = compartment.getMaxWait();
+        this.permits = new Semaphore(maxConcurrent, true);
+        Gauge.builder("employee.bulkhead.active", this, Bulkhead::active)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("employee.bulkhead.queued", queued, AtomicInteger::get)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("employee.bulkhead.rejected")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /** Takes a slot, waiting if allowed; every {@code true} must be followed by {@link #release()}. */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(waitNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    private long waitNanos() {
+        long waitNanos = maxWait.toNanos();
+        return RequestDeadline.remaining()
+                .map(remaining -> Math.max(Math.min(remaining.toNanos(), waitNanos), 0))
+                .orElse(waitNanos);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.properties.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits each {@link Bulkheaded} controller call through the {@link Bulkhead} of its operation class, so a burst of
+ * roster queries blocked on upstream cannot take the request threads that id lookups need. A full compartment answers
+ * 503 with {@code Retry-After} straight away, with a body serialized once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee-bulkhead", name = "enabled")
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = BulkheadInterceptor.class.getName() + ".admitted";
+
+    private final Map<OperationClass, Bulkhead> bulkheads = new EnumMap<>(OperationClass.class);
+    private final Map<OperationClass, byte[]> rejectionBodies = new EnumMap<>(OperationClass.class);
+    private final String retryAfterSeconds;
+
+    public BulkheadInterceptor(
+            BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        for (OperationClass operationClass : OperationClass.values()) {
+            BulkheadProperties.Compartment compartment =
+                    switch (operationClass) {
+                        case ROSTER -> bulkheadProperties.getRoster();
+                        case LOOKUP -> bulkheadProperties.getLookup();
+                        case MUTATION -> bulkheadProperties.getMutation();
+                    };
+            String name = operationClass.name().toLowerCase(Locale.ROOT);
+            bulkheads.put(operationClass, new Bulkhead(name, compartment, meterRegistry));
+            rejectionBodies.put(
+                    operationClass, ServiceUnavailable.body(objectMapper, "Too many concurrent " + name + " requests"));
+        }
+        this.retryAfterSeconds = ServiceUnavailable.retryAfterSeconds(bulkheadProperties.getRetryAfter());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Bulkheaded bulkheaded = handlerMethod.getMethodAnnotation(Bulkheaded.class);
+        if (bulkheaded == null) {
+            return true;
+        }
+        Bulkhead bulkhead = bulkheads.get(bulkheaded.value());
+        if (bulkhead.tryAcquire()) {
+            request.setAttribute(ADMITTED, bulkhead);
+            return true;
+        }
+
+        log.debug("Rejected {} {}: {} bulkhead full", request.getMethod(), request.getRequestURI(), bulkheaded.value());
+        ServiceUnavailable.write(response, retryAfterSeconds, rejectionBodies.get(bulkheaded.value()));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(ADMITTED) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(ADMITTED);
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Admits calls to the annotated handler method through the bulkhead of its {@link OperationClass}. */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkheaded {
+    OperationClass value();
+}
@@ -0,0 +1,328 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.properties.CompressionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gzips responses at the configured deflate level for clients that accept it. The body is held back until
+ * {@code min-response-size} bytes have been written, so small responses go out as they are with their
+ * {@code Content-Length}; larger ones are compressed as they are written, and flushes reach the client. Only the
+ * configured content types are compressed, and never async responses such as event streams.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-compression", name = "enabled")
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final int level;
+    private final int minResponseSize;
+    private final List<MediaType> mimeTypes;
+
+    public CompressionFilter(CompressionProperties compressionProperties) {
+        if (compressionProperties.getLevel() < 1 || compressionProperties.getLevel() > 9) {
+            throw new IllegalArgumentException("employee-compression.level must be between 1 and 9");
+        }
+        this.level = compressionProperties.getLevel();
+        this.minResponseSize = (int) compressionProperties.getMinResponseSize().toBytes();
+        this.mimeTypes = MediaType.parseMediaTypes(compressionProperties.getMimeTypes());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (HttpMethod.HEAD.matches(request.getMethod()) || !acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompressingResponse compressingResponse = new CompressingResponse(request, response);
+        filterChain.doFilter(request, compressingResponse);
+        compressingResponse.finish();
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim();
+                if ((GZIP.equalsIgnoreCase(name) || "*".equals(name)) && !isZeroQuality(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private enum State {
+        UNDECIDED,
+        GZIP,
+        IDENTITY
+    }
+
+    private class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final ByteArrayOutputStream held = new ByteArrayOutputStream();
+        private State state = State.UNDECIDED;
+        private OutputStream target;
+        private long contentLength = -1;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (Objects.nonNull(writer)) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            if (Objects.isNull(outputStream)) {
+                outputStream = new CompressingOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (Objects.isNull(writer)) {
+                if (Objects.nonNull(outputStream)) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(new CompressingOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (state == State.UNDECIDED) {
+                contentLength = length;
+            } else if (state == State.IDENTITY) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            setHeader(name, Integer.toString(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            addHeader(name, Integer.toString(value));
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (Objects.nonNull(writer)) {
+                writer.flush();
+            }
+            if (state != State.UNDECIDED) {
+                target.flush();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            resetBody();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            resetBody();
+        }
+
+        void finish() throws IOException {
+            if (Objects.nonNull(writer)) {
+                writer.flush();
+            }
+            if (state == State.UNDECIDED) {
+                if (held.size() == 0) {
+                    // Nothing written yet: an empty body, or an async response that decides on its first write.
+                    if (contentLength >= 0) {
+                        super.setContentLengthLong(contentLength);
+                    }
+                    return;
+                }
+                if (isCompressible()) {
+                    super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                if (contentLength < 0) {
+                    contentLength = held.size();
+                }
+                startIdentity();
+            } else if (state == State.GZIP) {
+                ((GZIPOutputStream) target).finish();
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            if (state == State.UNDECIDED) {
+                if (!isCompressible()) {
+                    startIdentity();
+                } else {
+                    held.write(bytes, offset, length);
+                    if (held.size() >= minResponseSize) {
+                        startGzip();
+                    }
+                    return;
+                }
+            }
+            target.write(bytes, offset, length);
+        }
+
+        private boolean isCompressible() {
+            if (request.isAsyncStarted() || Objects.nonNull(getHeader(HttpHeaders.CONTENT_ENCODING))) {
+                return false;
+            }
+            String contentType = getContentType();
+            if (Objects.isNull(contentType)) {
+                return false;
+            }
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mimeTypes.stream().anyMatch(type -> type.isCompatibleWith(mediaType));
+        }
+
+        private void startGzip() throws IOException {
+            state = State.GZIP;
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            // Sync flush, so that flushing a streamed response sends everything compressed so far.
+            target = new GZIPOutputStream(super.getOutputStream(), 8192, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            held.writeTo(target);
+            held.reset();
+        }
+
+        private void startIdentity() throws IOException {
+            state = State.IDENTITY;
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+            target = super.getOutputStream();
+            held.writeTo(target);
+            held.reset();
+        }
+
+        private void resetBody() {
+            if (state == State.UNDECIDED) {
+                held.reset();
+                contentLength = -1;
+            }
+        }
+
+        private class CompressingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                CompressingResponse.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                // Held bytes stay held until the decision is made; flushing them would commit the headers.
+                if (state != State.UNDECIDED) {
+                    target.flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                if (state == State.IDENTITY && target instanceof ServletOutputStream servletTarget) {
+                    return servletTarget.isReady();
+                }
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // Only async responses write without blocking, and those are never compressed: send them as they are.
+                try {
+                    if (state == State.UNDECIDED) {
+                        startIdentity();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (state != State.IDENTITY || !(target instanceof ServletOutputStream servletTarget)) {
+                    throw new IllegalStateException("Non-blocking writes cannot follow compressed output");
+                }
+                servletTarget.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.properties.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds requests beyond the {@link AdaptiveConcurrencyLimiter}'s current limit with 503 and {@code Retry-After}, and
+ * feeds it the latency of every request it admits that is not itself answered 503. Those were turned away by a bulkhead
+ * or an unavailable upstream within microseconds; under overload their latency would drag the recent average down
+ * until the limit grew instead of shrinking.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee-concurrency-limit", name = "enabled")
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_NANOS = ConcurrencyLimitInterceptor.class.getName() + ".startedNanos";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final byte[] rejectionBody;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(
+            ConcurrencyLimitProperties concurrencyLimitProperties,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        this.limiter = new AdaptiveConcurrencyLimiter(concurrencyLimitProperties, meterRegistry);
+        this.rejectionBody = ServiceUnavailable.body(objectMapper, "Too many concurrent requests");
+        this.retryAfterSeconds = ServiceUnavailable.retryAfterSeconds(concurrencyLimitProperties.getRetryAfter());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (limiter.tryAcquire()) {
+            request.setAttribute(STARTED_NANOS, System.nanoTime());
+            return true;
+        }
+        log.debug(
+                "Shed {} {}: concurrency limit {} reached",
+                request.getMethod(),
+                request.getRequestURI(),
+                limiter.getLimit());
+        ServiceUnavailable.write(response, retryAfterSeconds, rejectionBody);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(STARTED_NANOS) instanceof Long startedNanos) {
+            request.removeAttribute(STARTED_NANOS);
+            if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                limiter.releaseWithoutSample();
+            } else {
+                limiter.release(System.nanoTime() - startedNanos);
+            }
+        }
+    }
+}
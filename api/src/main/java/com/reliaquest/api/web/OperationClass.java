@@ -0,0 +1,8 @@
+package com.reliaquest.api.web;
+
+/** Cost class of a controller operation; each has its own bulkhead. */
+public enum OperationClass {
+    ROSTER,
+    LOOKUP,
+    MUTATION
+}
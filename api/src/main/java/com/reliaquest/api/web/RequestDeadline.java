@@ -0,0 +1,31 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Deadline of the inbound request being served on the current thread. Upstream calls block on the request thread, so
+ * they can read it without it being passed through every service method.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /** Time left before the current request's deadline, possibly negative; empty outside of a request. */
+    public static Optional<Duration> remaining() {
+        Long deadlineNanos = DEADLINE_NANOS.get();
+        return deadlineNanos == null
+                ? Optional.empty()
+                : Optional.of(Duration.ofNanos(deadlineNanos - System.nanoTime()));
+    }
+}
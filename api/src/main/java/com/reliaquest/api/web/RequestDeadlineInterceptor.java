@@ -0,0 +1,40 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Starts the {@link RequestDeadline} for each controller call: {@code employee-client.request-timeout}, or the
+ * caller's {@code X-Request-Timeout} (milliseconds) when that is shorter.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final EmployeeClientProperties employeeClientProperties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Duration timeout = employeeClientProperties.getRequestTimeout();
+        long requestedMillis = NumberUtils.toLong(request.getHeader(REQUEST_TIMEOUT_HEADER), -1);
+        if (requestedMillis > 0 && requestedMillis < timeout.toMillis()) {
+            timeout = Duration.ofMillis(requestedMillis);
+        }
+        RequestDeadline.start(timeout);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        RequestDeadline.clear();
+    }
+}
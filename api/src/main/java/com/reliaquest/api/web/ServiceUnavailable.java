@@ -0,0 +1,38 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/** The 503 written by interceptors that shed load, shaped like {@code GlobalExceptionHandler}'s error bodies. */
+final class ServiceUnavailable {
+
+    private ServiceUnavailable() {}
+
+    static byte[] body(ObjectMapper objectMapper, String message) throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("message", message);
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    // Retry-After is whole seconds; anything shorter still asks for one.
+    static String retryAfterSeconds(Duration retryAfter) {
+        return Long.toString(Math.max((retryAfter.toMillis() + 999) / 1000, 1));
+    }
+
+    static void write(HttpServletResponse response, String retryAfterSeconds, byte[] body) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
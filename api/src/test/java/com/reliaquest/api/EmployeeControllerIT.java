@@ -59,6 +59,28 @@ class EmployeeControllerIT extends BaseIT {
                 .isEqualTo("Server Error");
     }
 
+    @Test
+    void getAllEmployees_upstreamRetryAfterBeyondDeadline_returns429WithHint() {
+
+        stubFor(get(urlPathMatching("/employee"))
+                .willReturn((aResponse()
+                        .withStatus(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .withHeader("Retry-After", "1")
+                        .withBody("Too Many Requests"))));
+
+        webTestClient
+                .get()
+                .uri("/api/employee")
+                .header("X-Request-Timeout", "200")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader()
+                .valueEquals("Retry-After", "1");
+
+        verify(1, getRequestedFor(urlEqualTo("/employee")));
+    }
+
     @Test
     void getEmployeesByNameSearch_whenPartialMatch_returnsMatchingEmployees() throws IOException {
         stubFor(get(urlPathMatching("/employee"))
@@ -183,6 +205,27 @@ class EmployeeControllerIT extends BaseIT {
         assertEquals("Steph Curry", response.getName());
     }
 
+    @Test
+    void createEmployee_forwardsIdempotencyKeyUpstream() throws IOException {
+        stubFor(post(urlPathMatching("/employee"))
+                .willReturn((aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(readStringFromFile("response/employee-30-created-client-response.json")))));
+
+        webTestClient
+                .post()
+                .uri("/api/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "create-steph-curry")
+                .bodyValue(readStringFromFile("request/create-employee-good-30.json"))
+                .exchange()
+                .expectStatus()
+                .isCreated();
+
+        verify(postRequestedFor(urlEqualTo("/employee")).withHeader("Idempotency-Key", equalTo("create-steph-curry")));
+    }
+
     @Test
     void createEmployee_invalidRequest_returnsBadRequest_andDoesNotCallUpstream() throws IOException {
         webTestClient
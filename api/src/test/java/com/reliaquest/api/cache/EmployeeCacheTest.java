@@ -0,0 +1,107 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.properties.EmployeeCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class EmployeeCacheTest {
+    private static final Employee NARUTO = new Employee("9001", "Naruto Uzumaki", 120000, 30, "Hokage", null);
+
+    private EmployeeCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeCacheProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void repeatedLookup_loadsOnce_andRecordsHit() {
+        EmployeeCache employeeCache = new EmployeeCache(properties, meterRegistry);
+
+        assertEquals(NARUTO, employeeCache.get("9001", loading(() -> NARUTO)));
+        assertEquals(NARUTO, employeeCache.get("9001", loading(() -> NARUTO)));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void upstreamNotFound_isCachedAsNotFound() {
+        EmployeeCache employeeCache = new EmployeeCache(properties, meterRegistry);
+        Supplier<Employee> notFound = loading(() -> {
+            throw UpstreamException.NOT_FOUND;
+        });
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            UpstreamException ex = assertThrows(UpstreamException.class, () -> employeeCache.get("404", notFound));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void otherUpstreamErrors_areNotCached() {
+        EmployeeCache employeeCache = new EmployeeCache(properties, meterRegistry);
+        Supplier<Employee> failing = loading(() -> {
+            throw new IllegalStateException("upstream down");
+        });
+
+        assertThrows(IllegalStateException.class, () -> employeeCache.get("9001", failing));
+        assertEquals(NARUTO, employeeCache.get("9001", loading(() -> NARUTO)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_forcesReload_andPut_seedsEntry() {
+        EmployeeCache employeeCache = new EmployeeCache(properties, meterRegistry);
+        employeeCache.put(NARUTO);
+
+        assertEquals(NARUTO, employeeCache.get("9001", loading(() -> NARUTO)));
+        assertEquals(0, loads.get());
+
+        employeeCache.invalidate("9001");
+        employeeCache.get("9001", loading(() -> NARUTO));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void disabled_alwaysLoads() {
+        properties.setEnabled(false);
+        EmployeeCache employeeCache = new EmployeeCache(properties, meterRegistry);
+
+        employeeCache.get("9001", loading(() -> NARUTO));
+        employeeCache.get("9001", loading(() -> NARUTO));
+
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<Employee> loading(Supplier<Employee> upstream) {
+        return () -> {
+            loads.incrementAndGet();
+            return upstream.get();
+        };
+    }
+
+    private double gets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", "employee")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.UpstreamException;
+import com.reliaquest.api.properties.IdempotencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class IdempotencyCacheTest {
+    private static final Employee STEPH = new Employee("30", "Steph Curry", 150000, 36, "Point Guard", null);
+
+    private IdempotencyProperties properties;
+    private AtomicInteger creates;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setEnabled(true);
+        creates = new AtomicInteger();
+    }
+
+    @Test
+    void repeatedKey_createsOnce_andReplaysResult() {
+        IdempotencyCache idempotencyCache = new IdempotencyCache(properties, new SimpleMeterRegistry());
+
+        assertEquals(STEPH, idempotencyCache.get("key", "request", creating(() -> STEPH)));
+        assertEquals(STEPH, idempotencyCache.get("key", "request", creating(() -> STEPH)));
+
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void concurrentDuplicate_waitsForFirstCreate() throws Exception {
+        IdempotencyCache idempotencyCache = new IdempotencyCache(properties, new SimpleMeterRegistry());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Employee> first = CompletableFuture.supplyAsync(
+                () -> idempotencyCache.get("key", "request", creating(() -> {
+                    started.countDown();
+                    await(release);
+                    return STEPH;
+                })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Employee> duplicate =
+                CompletableFuture.supplyAsync(() -> idempotencyCache.get("key", "request", creating(() -> STEPH)));
+        release.countDown();
+
+        assertEquals(STEPH, first.get(5, TimeUnit.SECONDS));
+        assertEquals(STEPH, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void failedCreate_isForgotten_soRetryCreates() {
+        IdempotencyCache idempotencyCache = new IdempotencyCache(properties, new SimpleMeterRegistry());
+
+        assertThrows(UpstreamException.class, () -> idempotencyCache.get("key", "request", creating(() -> {
+            throw UpstreamException.UNAVAILABLE;
+        })));
+        assertEquals(STEPH, idempotencyCache.get("key", "request", creating(() -> STEPH)));
+
+        assertEquals(2, creates.get());
+    }
+
+    @Test
+    void keyReusedForDifferentRequest_isUnprocessable() {
+        IdempotencyCache idempotencyCache = new IdempotencyCache(properties, new SimpleMeterRegistry());
+        idempotencyCache.get("key", "request", creating(() -> STEPH));
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> idempotencyCache.get("key", "other request", creating(() -> STEPH)));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getStatusCode());
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void disabledOrWithoutKey_alwaysCreates() {
+        IdempotencyCache disabled = new IdempotencyCache(new IdempotencyProperties(), new SimpleMeterRegistry());
+        IdempotencyCache enabled = new IdempotencyCache(properties, new SimpleMeterRegistry());
+
+        disabled.get("key", "request", creating(() -> STEPH));
+        disabled.get("key", "request", creating(() -> STEPH));
+        enabled.get(null, "request", creating(() -> STEPH));
+        enabled.get(null, "request", creating(() -> STEPH));
+
+        assertEquals(4, creates.get());
+    }
+
+    private Supplier<Employee> creating(Supplier<Employee> create) {
+        return () -> {
+            creates.incrementAndGet();
+            return create.get();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
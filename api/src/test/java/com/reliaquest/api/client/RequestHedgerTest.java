@@ -0,0 +1,169 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class RequestHedgerTest {
+    private static final Mono<String> TOO_MANY = Mono.error(WebClientResponseException.create(
+            HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null));
+
+    private EmployeeClientProperties.Hedge hedge;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        hedge = new EmployeeClientProperties.Hedge();
+        hedge.setEnabled(true);
+        hedge.setInitialDelay(Duration.ofMillis(20));
+        meterRegistry = new SimpleMeterRegistry();
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    void slowFirstAttempt_isOvertakenByHedge() {
+        hedge.setMaxRatio(1.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        String result = call(hedger, slowThenFast(Duration.ofSeconds(5)));
+
+        assertEquals("attempt 2", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, hedges("won"));
+        assertEquals(0.0, hedges("lost"));
+    }
+
+    @Test
+    void hedge_sendsSecondAttempt() {
+        hedge.setMaxRatio(1.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        String result = hedger.hedge(Mono.just("first").delayElement(Duration.ofSeconds(5)), Mono.just("second"))
+                .block(Duration.ofSeconds(2));
+
+        assertEquals("second", result);
+        assertEquals(1.0, hedges("won"));
+    }
+
+    @Test
+    void hedgeError_doesNotFailSlowerPrimary() {
+        hedge.setMaxRatio(1.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        String result = call(hedger, attempts(Mono.just("attempt 1").delayElement(Duration.ofMillis(200)), TOO_MANY));
+
+        assertEquals("attempt 1", result);
+        assertEquals(2, attempts.get());
+        assertEquals(0.0, hedges("won"));
+        assertEquals(1.0, hedges("lost"));
+    }
+
+    @Test
+    void primaryError_isOvertakenBySucceedingHedge() {
+        hedge.setMaxRatio(1.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        Mono<String> upstream = attempts(
+                TOO_MANY.delaySubscription(Duration.ofMillis(100)),
+                Mono.just("hedge").delayElement(Duration.ofMillis(200)));
+
+        String result = call(hedger, upstream);
+
+        assertEquals("hedge", result);
+        assertEquals(1.0, hedges("won"));
+    }
+
+    @Test
+    void bothAttemptsFailing_surfacesError() {
+        hedge.setMaxRatio(1.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        Mono<String> upstream = attempts(TOO_MANY.delaySubscription(Duration.ofMillis(100)), TOO_MANY);
+
+        assertThrows(WebClientResponseException.TooManyRequests.class, () -> call(hedger, upstream));
+        assertEquals(2, attempts.get());
+        assertEquals(0.0, hedges("won"));
+        assertEquals(1.0, hedges("lost"));
+    }
+
+    @Test
+    void primaryErrorBeforeHedge_surfacesAtOnce() {
+        hedge.setMaxRatio(0.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        Mono<String> upstream = attempts(TOO_MANY.delaySubscription(Duration.ofMillis(50)), Mono.just("hedge"));
+
+        assertThrows(WebClientResponseException.TooManyRequests.class, () -> call(hedger, upstream));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void exhaustedBudget_sendsNoHedge() {
+        hedge.setMaxRatio(0.0);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        String result = call(hedger, slowThenFast(Duration.ofMillis(100)));
+
+        assertEquals("attempt 1", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, hedges("budget_exhausted"));
+    }
+
+    @Test
+    void budget_capsHedgesAtConfiguredShareOfCalls() {
+        hedge.setMaxRatio(0.25);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        for (int call = 0; call < 8; call++) {
+            attempts.set(0);
+            call(hedger, slowThenFast(Duration.ofMillis(60)));
+        }
+
+        assertEquals(2.0, hedges("won") + hedges("lost"));
+        assertEquals(6.0, hedges("budget_exhausted"));
+    }
+
+    @Test
+    void disabled_passesCallThrough() {
+        hedge.setEnabled(false);
+        RequestHedger hedger = new RequestHedger(hedge, meterRegistry, "getById");
+
+        assertEquals("attempt 1", call(hedger, slowThenFast(Duration.ofMillis(50))));
+        assertEquals(1, attempts.get());
+    }
+
+    private String call(RequestHedger hedger, Mono<String> upstream) {
+        return hedger.hedge(upstream, upstream).block(Duration.ofSeconds(2));
+    }
+
+    // First subscription answers after firstLatency, every later one immediately.
+    private Mono<String> slowThenFast(Duration firstLatency) {
+        return Mono.defer(() -> {
+            int attempt = attempts.incrementAndGet();
+            Mono<String> response = Mono.just("attempt " + attempt);
+            return attempt == 1 ? response.delayElement(firstLatency) : response;
+        });
+    }
+
+    // The first subscription gets first, every later one later.
+    private Mono<String> attempts(Mono<String> first, Mono<String> later) {
+        return Mono.defer(() -> attempts.incrementAndGet() == 1 ? first : later);
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry
+                .get("employee.client.hedges")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
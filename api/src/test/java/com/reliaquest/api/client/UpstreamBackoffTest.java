@@ -0,0 +1,106 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class UpstreamBackoffTest {
+    private EmployeeClientProperties.Backoff backoff;
+    private UpstreamBackoff upstreamBackoff;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        backoff = new EmployeeClientProperties.Backoff();
+        backoff.setMinBackoff(Duration.ofMillis(1));
+        backoff.setMaxBackoff(Duration.ofMillis(5));
+        backoff.setLatencyBudget(Duration.ofSeconds(2));
+        upstreamBackoff = new UpstreamBackoff(backoff);
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    void retriesAfterRetryAfterHint_thenSucceeds() {
+        String result = call(failingTimes(1, tooManyRequests("0")));
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void retryAfterBeyondBudget_failsFastWithHint() {
+        long start = System.nanoTime();
+
+        UpstreamRateLimitedException ex = assertThrows(
+                UpstreamRateLimitedException.class, () -> call(failingTimes(1, tooManyRequests("60"))));
+
+        assertEquals(Duration.ofSeconds(60), ex.getRetryAfter());
+        assertEquals("60", ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, attempts.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void retriesExhaustedWithoutHint_propagatesUpstreamError() {
+        backoff.setMaxRetries(2);
+
+        assertThrows(
+                WebClientResponseException.TooManyRequests.class,
+                () -> call(failingTimes(10, tooManyRequests(null))));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void nonRetryableError_isNotRetried() {
+        WebClientResponseException serverError = WebClientResponseException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(), "Server Error", HttpHeaders.EMPTY, null, null);
+
+        assertThrows(WebClientResponseException.InternalServerError.class, () -> call(failingTimes(1, serverError)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void exhaustedBudgetAdvertisedOnSuccess_failsNextCallWithoutSendingIt() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(UpstreamBackoff.RATE_LIMIT_REMAINING, "0");
+        headers.set(UpstreamBackoff.RATE_LIMIT_RESET, "30");
+        upstreamBackoff.observe(HttpStatus.OK, headers);
+
+        UpstreamRateLimitedException ex =
+                assertThrows(UpstreamRateLimitedException.class, () -> call(failingTimes(0, null)));
+
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+        assertEquals(0, attempts.get());
+    }
+
+    private String call(Mono<String> upstream) {
+        return upstream.transform(upstreamBackoff.<String>forCall("GET /employee")).block();
+    }
+
+    private Mono<String> failingTimes(int failures, WebClientResponseException failure) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures ? Mono.error(failure) : Mono.just("ok"));
+    }
+
+    private static WebClientResponseException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                headers,
+                "Too Many Requests".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+}
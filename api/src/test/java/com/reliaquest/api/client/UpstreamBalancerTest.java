@@ -0,0 +1,108 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.EmployeeClientProperties;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class UpstreamBalancerTest {
+    private Upstream first;
+    private Upstream second;
+    private UpstreamBalancer balancer;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.getBalancing().setEjectAfter(2);
+        first = new Upstream("first", WebClient.create("http://first"), properties);
+        second = new Upstream("second", WebClient.create("http://second"), properties);
+        balancer = new UpstreamBalancer(List.of(first, second));
+    }
+
+    @Test
+    void choosesUpstreamWithFewerCallsInFlight() {
+        Disposable pending = first.tracked(Mono.never()).subscribe();
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(second, balancer.choose());
+        }
+
+        pending.dispose();
+        assertEquals(0, first.load());
+    }
+
+    @Test
+    void passesOverUpstreamAfterConsecutiveConnectionFailures() {
+        Disposable pending = second.tracked(Mono.never()).subscribe();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(WebClientRequestException.class, () -> first.tracked(Mono.error(connectionRefused())).block());
+        }
+
+        assertFalse(first.isAvailable());
+        for (int i = 0; i < 20; i++) {
+            assertSame(second, balancer.choose());
+        }
+        pending.dispose();
+    }
+
+    @Test
+    void passesOverRateLimitedUpstream() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        second.getBackoff().observe(HttpStatus.TOO_MANY_REQUESTS, headers);
+
+        assertFalse(second.isAvailable());
+        for (int i = 0; i < 20; i++) {
+            assertSame(first, balancer.choose());
+        }
+    }
+
+    @Test
+    void stillChoosesWhenNoUpstreamIsAvailable() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        first.getBackoff().observe(HttpStatus.TOO_MANY_REQUESTS, headers);
+        second.getBackoff().observe(HttpStatus.TOO_MANY_REQUESTS, headers);
+
+        assertNotNull(balancer.choose());
+    }
+
+    @Test
+    void chooseOther_passesOverGivenUpstream() {
+        Disposable pending = second.tracked(Mono.never()).subscribe();
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(second, balancer.chooseOther(first));
+        }
+        pending.dispose();
+    }
+
+    @Test
+    void chooseOther_fallsBackWhenNoOtherUpstreamIsAvailable() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        second.getBackoff().observe(HttpStatus.TOO_MANY_REQUESTS, headers);
+
+        assertSame(first, balancer.chooseOther(first));
+        assertSame(first, new UpstreamBalancer(List.of(first)).chooseOther(first));
+    }
+
+    private static WebClientRequestException connectionRefused() {
+        return new WebClientRequestException(
+                new IOException("Connection refused"),
+                HttpMethod.GET,
+                URI.create("http://first/employee"),
+                HttpHeaders.EMPTY);
+    }
+}
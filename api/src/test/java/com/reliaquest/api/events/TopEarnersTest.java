@@ -0,0 +1,85 @@
+package com.reliaquest.api.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.properties.RosterProperties;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import com.reliaquest.api.roster.RosterQueries;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopEarnersTest {
+    private RosterQueries rosterQueries;
+
+    @BeforeEach
+    void setUp() {
+        rosterQueries = new RosterQueries(new RosterProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterQueries.shutdown();
+    }
+
+    @Test
+    void created_aboveHighest_leadsTopTen() {
+        TopEarners topEarners = topEarnersOf(100);
+
+        topEarners.created(employee("new", 1_000));
+
+        assertEquals(1_000, topEarners.highestSalary());
+        assertEquals("new", topEarners.names().get(0));
+        assertEquals("99", topEarners.names().get(1));
+        assertEquals(TopEarners.SHOWN, topEarners.names().size());
+    }
+
+    @Test
+    void deleted_topEarner_promotesFromReserve() {
+        TopEarners topEarners = topEarnersOf(100);
+
+        topEarners.deleted("99");
+
+        assertEquals(98, topEarners.highestSalary());
+        assertEquals("89", topEarners.names().get(TopEarners.SHOWN - 1));
+        assertTrue(topEarners.isComplete());
+    }
+
+    @Test
+    void deleted_beyondReserve_isIncomplete() {
+        TopEarners topEarners = topEarnersOf(100);
+
+        for (int id = 99; id >= 89; id--) {
+            topEarners.deleted(String.valueOf(id));
+        }
+
+        assertFalse(topEarners.isComplete());
+    }
+
+    @Test
+    void smallRoster_staysCompleteAndTakesLowSalaries() {
+        TopEarners topEarners = topEarnersOf(3);
+
+        topEarners.deleted("2");
+        topEarners.created(employee("low", -5));
+
+        assertTrue(topEarners.isComplete());
+        assertEquals(List.of("1", "0", "low"), topEarners.names());
+    }
+
+    // Employees named after their id, each earning as much as its id.
+    private TopEarners topEarnersOf(int size) {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(size);
+        for (int id = 0; id < size; id++) {
+            builder.add(String.valueOf(id), String.valueOf(id), id, 30, "Engineer", null);
+        }
+        return TopEarners.of(builder.build(), rosterQueries, new EmployeeMapper());
+    }
+
+    private static Employee employee(String id, int salary) {
+        return new Employee(id, id, salary, 30, "Engineer", null);
+    }
+}
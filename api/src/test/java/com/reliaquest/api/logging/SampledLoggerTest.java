@@ -0,0 +1,28 @@
+package com.reliaquest.api.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class SampledLoggerTest {
+
+    @Test
+    void error_withSupplierArgument_callsItOnlyForLoggedLines() {
+        Logger delegate = mock(Logger.class);
+        when(delegate.isErrorEnabled()).thenReturn(true);
+        SampledLogger sampledLogger = new SampledLogger(delegate, 1);
+        AtomicInteger decoded = new AtomicInteger();
+        Supplier<String> body = () -> "body-" + decoded.incrementAndGet();
+
+        for (int i = 0; i < 5; i++) {
+            sampledLogger.error("getEmployees", "Upstream error. body={}", body);
+        }
+
+        assertEquals(1, decoded.get());
+        verify(delegate).error("Upstream error. body={}", new Object[] {"body-1"});
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.roster.EmployeeSnapshot;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class EmployeeProjectionTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeSnapshot snapshot = EmployeeSnapshot.builder(2)
+            .add("1", "Ann", 100, 40, "Engineer", "ann@company.com")
+            .add("2", "Bob", null, null, null, null)
+            .build();
+
+    @Test
+    void writeArray_writesRequestedFieldsInEmployeeOrder() throws IOException {
+        String json = write(EmployeeProjection.of("salary, id"), false);
+
+        assertEquals("[{\"id\":\"1\",\"salary\":100},{\"id\":\"2\",\"salary\":null}]", json);
+    }
+
+    @Test
+    void writeArray_withAllFields_matchesEmployeeSerialization() throws IOException {
+        String json = write(EmployeeProjection.of("id,name,salary,age,title,email"), false);
+
+        assertEquals(objectMapper.writeValueAsString(new EmployeeMapper().toEmployees(snapshot)), json);
+    }
+
+    @Test
+    void writeLines_writesOneObjectPerLine() throws IOException {
+        String json = write(EmployeeProjection.of("name"), true);
+
+        assertEquals("{\"name\":\"Ann\"}\n{\"name\":\"Bob\"}\n", json);
+    }
+
+    @Test
+    void of_reusesCompiledProjection() {
+        assertSame(EmployeeProjection.of("id,name"), EmployeeProjection.of("name,id"));
+    }
+
+    @Test
+    void of_rejectsUnknownAndBlankFields() {
+        assertThrows(IllegalArgumentException.class, () -> EmployeeProjection.of("id,employee_name"));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeProjection.of(" "));
+    }
+
+    private String write(EmployeeProjection projection, boolean lines) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            if (lines) {
+                projection.writeLines(generator, snapshot);
+            } else {
+                projection.writeArray(generator, snapshot);
+            }
+        }
+        return writer.toString();
+    }
+}
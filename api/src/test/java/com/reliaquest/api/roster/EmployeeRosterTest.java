@@ -0,0 +1,184 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import com.reliaquest.api.client.dto.UpstreamChangeFeed;
+import com.reliaquest.api.client.dto.UpstreamEmployeeChange;
+import com.reliaquest.api.properties.RosterProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Test
+    void snapshot_requestedConcurrentlyWithNoRoster_fetchesOnce() throws Exception {
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.setMaxStaleness(Duration.ofHours(1));
+        List<Object> published = new CopyOnWriteArrayList<>();
+        EmployeeRoster employeeRoster = new EmployeeRoster(employeeClient, rosterProperties, published::add);
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees()).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            assertTrue(releaseFetch.await(5, TimeUnit.SECONDS));
+            return List.of(employeeDTO("1", "Only"));
+        });
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<EmployeeSnapshot>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(CompletableFuture.supplyAsync(employeeRoster::snapshot, requestThreads));
+        }
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        releaseFetch.countDown();
+
+        EmployeeSnapshot first = callers.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<EmployeeSnapshot> caller : callers) {
+            assertSame(first, caller.get(5, TimeUnit.SECONDS));
+        }
+        verify(employeeClient, times(1)).getAllEmployees();
+        assertEquals(1, published.size());
+        requestThreads.shutdown();
+    }
+
+    @Test
+    void refresh_afterAFailedOne_fetchesAgain() {
+        RosterProperties rosterProperties = new RosterProperties();
+        List<Object> published = new ArrayList<>();
+        EmployeeRoster employeeRoster = new EmployeeRoster(employeeClient, rosterProperties, published::add);
+        when(employeeClient.getAllEmployees())
+                .thenThrow(new IllegalStateException("upstream down"))
+                .thenReturn(List.of(employeeDTO("1", "Recovered")));
+
+        assertThrows(IllegalStateException.class, employeeRoster::refresh);
+
+        assertEquals("Recovered", employeeRoster.refresh().name(0));
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_withChangeFeedBacklogOverSeveralPages_catchesUpWithoutFullFetch() {
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.getChangeFeed().setEnabled(true);
+        rosterProperties.getChangeFeed().setBatchSize(2);
+        EmployeeRoster employeeRoster = new EmployeeRoster(employeeClient, rosterProperties, event -> {});
+        when(employeeClient.getChanges(0, 0)).thenReturn(changeFeed("stream-1", 0));
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(employeeDTO("1", "Tony Stark")));
+        when(employeeClient.getChanges(0, 2))
+                .thenReturn(changeFeed(
+                        "stream-1",
+                        3,
+                        change(1, UpstreamEmployeeChange.Type.CREATED, employeeDTO("2", "Pepper Potts")),
+                        change(2, UpstreamEmployeeChange.Type.CREATED, employeeDTO("3", "Happy Hogan"))));
+        when(employeeClient.getChanges(2, 2))
+                .thenReturn(changeFeed(
+                        "stream-1",
+                        3,
+                        change(3, UpstreamEmployeeChange.Type.DELETED, employeeDTO("1", "Tony Stark"))));
+
+        employeeRoster.refresh();
+        EmployeeSnapshot caughtUp = employeeRoster.refresh();
+
+        assertEquals(Set.of("2", "3"), ids(caughtUp));
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_afterUpstreamRestart_fetchesFullRoster() {
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.getChangeFeed().setEnabled(true);
+        EmployeeRoster employeeRoster = new EmployeeRoster(employeeClient, rosterProperties, event -> {});
+        when(employeeClient.getChanges(0, 0))
+                .thenReturn(changeFeed("stream-1", 0))
+                .thenReturn(changeFeed("stream-2", 1));
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(employeeDTO("1", "Tony Stark")))
+                .thenReturn(List.of(employeeDTO("4", "Bruce Banner")));
+        when(employeeClient.getChanges(0, 1000))
+                .thenReturn(changeFeed(
+                        "stream-2",
+                        1,
+                        change(1, UpstreamEmployeeChange.Type.CREATED, employeeDTO("4", "Bruce Banner"))));
+
+        employeeRoster.refresh();
+        EmployeeSnapshot refetched = employeeRoster.refresh();
+
+        assertEquals(Set.of("4"), ids(refetched));
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_whenChangeFeedRequiresResync_fetchesFullRoster() {
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.getChangeFeed().setEnabled(true);
+        EmployeeRoster employeeRoster = new EmployeeRoster(employeeClient, rosterProperties, event -> {});
+        UpstreamChangeFeed resync = changeFeed("stream-1", 20_000);
+        resync.setResyncRequired(true);
+        when(employeeClient.getChanges(0, 0))
+                .thenReturn(changeFeed("stream-1", 0))
+                .thenReturn(changeFeed("stream-1", 20_000));
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(employeeDTO("1", "Tony Stark")))
+                .thenReturn(List.of(employeeDTO("5", "Natasha Romanoff")));
+        when(employeeClient.getChanges(0, 1000)).thenReturn(resync);
+
+        employeeRoster.refresh();
+        EmployeeSnapshot refetched = employeeRoster.refresh();
+
+        assertEquals(Set.of("5"), ids(refetched));
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    private static UpstreamChangeFeed changeFeed(
+            String streamId, long latestSequence, UpstreamEmployeeChange... changes) {
+        UpstreamChangeFeed changeFeed = new UpstreamChangeFeed();
+        changeFeed.setStreamId(streamId);
+        changeFeed.setLatestSequence(latestSequence);
+        changeFeed.setChanges(List.of(changes));
+        return changeFeed;
+    }
+
+    private static UpstreamEmployeeChange change(
+            long sequence, UpstreamEmployeeChange.Type type, EmployeeDTO employee) {
+        UpstreamEmployeeChange change = new UpstreamEmployeeChange();
+        change.setSequence(sequence);
+        change.setType(type);
+        change.setEmployee(employee);
+        return change;
+    }
+
+    private static Set<String> ids(EmployeeSnapshot snapshot) {
+        Set<String> ids = new HashSet<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            ids.add(snapshot.id(row));
+        }
+        return ids;
+    }
+
+    private static EmployeeDTO employeeDTO(String id, String name) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        employeeDTO.setEmployeeName(name);
+        return employeeDTO;
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.dto.EmployeeDTO;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class EmployeeSnapshotTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void of_keepsRowsAndColumnValues() throws IOException {
+        List<EmployeeDTO> employeeDTOs = readJson("response/all-employees-data.json", new TypeReference<>() {});
+
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employeeDTOs);
+
+        assertEquals(15, snapshot.size());
+        assertEquals("9002", snapshot.id(1));
+        assertEquals("Tony Stark", snapshot.name(1));
+        assertEquals(950000, snapshot.salary(1));
+        assertEquals("Chief Innovation Engineer", snapshot.title(1));
+        assertEquals("tstark@starkindustries.com", snapshot.email(1));
+    }
+
+    @Test
+    void builder_packsCanonicalUuidsAndKeepsMissingValues() {
+        String uuid = UUID.randomUUID().toString();
+
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(2)
+                .add(uuid, "Bill Bob", null, null, "Documentation Engineer", null)
+                .add("ABC-1", null, 1000, 30, "Documentation Engineer", "x@company.com")
+                .build();
+
+        assertEquals(uuid, snapshot.id(0));
+        assertEquals(EmployeeSnapshot.ABSENT, snapshot.salary(0));
+        assertEquals(EmployeeSnapshot.ABSENT, snapshot.age(0));
+        assertNull(snapshot.email(0));
+        assertEquals("ABC-1", snapshot.id(1));
+        assertNull(snapshot.name(1));
+        assertEquals(1000, snapshot.highestSalary());
+    }
+
+    @Test
+    void rowsWithNameContaining_returnsMatchesInRosterOrder() throws IOException {
+        List<EmployeeDTO> employeeDTOs = readJson("response/all-employees-data.json", new TypeReference<>() {});
+
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employeeDTOs);
+        int[] rows = snapshot.rowsWithNameContaining("ack");
+
+        assertEquals(
+                List.of("Levi Ackerman", "Mikasa Ackerman"),
+                Arrays.stream(rows).mapToObj(snapshot::name).toList());
+    }
+
+    @Test
+    void rowsWithNameContaining_matchesFoldedNames() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(4)
+                .add("1", "Hans Stra\u00dfe", null, null, null, null)
+                .add("2", "\uff2e\uff41\uff52\uff55\uff54\uff4f", null, null, null, null)
+                .add("3", "NARUTO UZUMAKI", null, null, null, null)
+                .add("4", " ", null, null, null, null)
+                .build();
+
+        assertArrayEquals(new int[] {0}, snapshot.rowsWithNameContaining(NameKey.of("STRASSE")));
+        assertArrayEquals(new int[] {1, 2}, snapshot.rowsWithNameContaining(NameKey.of("Naruto")));
+        assertArrayEquals(new int[] {0, 1, 2}, snapshot.rowsWithNameContaining(""));
+    }
+
+    @Test
+    void topRowsBySalary_keepsRosterOrderForEqualSalaries() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(4)
+                .add("1", "a", 10, 20, null, null)
+                .add("2", "b", 30, 20, null, null)
+                .add("3", "c", null, 20, null, null)
+                .add("4", "d", 30, 20, null, null)
+                .build();
+
+        assertArrayEquals(new int[] {1, 3}, snapshot.topRowsBySalary(2));
+        assertArrayEquals(new int[] {1, 3, 0}, snapshot.topRowsBySalary(10));
+    }
+
+    @Test
+    void withChanges_appliesCreatesAndDeletesIdempotently() {
+        String uuid = UUID.randomUUID().toString();
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(3)
+                .add("1", "a", 10, 20, "t", null)
+                .add(uuid, "b", 20, 20, "t", null)
+                .add("3", "c", 30, 20, "t", null)
+                .build();
+
+        EmployeeSnapshot changed = snapshot.withChanges(new RosterChanges()
+                .deleted(uuid)
+                .deleted("missing")
+                .created(employeeDTO("1", "a again", 99))
+                .created(employeeDTO("4", "d", 40)));
+
+        assertEquals(3, snapshot.size());
+        assertEquals(List.of("1", "3", "4"), ids(changed));
+        assertEquals("a", changed.name(0));
+        assertEquals(40, changed.highestSalary());
+        assertSame(changed, changed.withChanges(new RosterChanges()));
+    }
+
+    @Test
+    void withChanges_internsCreatedStringsAgainstExistingPool() {
+        HeapEmployeeSnapshot snapshot = (HeapEmployeeSnapshot) EmployeeSnapshot.builder(1)
+                .add(UUID.randomUUID().toString(), "a", 10, 20, "t", "a@company.com")
+                .build();
+        EmployeeDTO created = employeeDTO(UUID.randomUUID().toString(), "a", 20);
+        created.setEmployeeTitle("t");
+        created.setEmployeeEmail("a@company.com");
+
+        HeapEmployeeSnapshot changed =
+                (HeapEmployeeSnapshot) snapshot.withChanges(new RosterChanges().created(created));
+
+        assertEquals(2, changed.size());
+        assertEquals(snapshot.poolSize, changed.poolSize);
+        assertEquals("t", changed.title(1));
+    }
+
+    @Test
+    void withChanges_manyCreateDeleteRounds_keepPoolBounded() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(1)
+                .add("0", "first", 10, 20, "t", null)
+                .build();
+
+        int largestPool = 0;
+        for (int round = 1; round <= 20_000; round++) {
+            EmployeeDTO created = employeeDTO(Integer.toString(round), "name " + round, round);
+            created.setEmployeeEmail("name" + round + "@company.com");
+            snapshot = snapshot.withChanges(new RosterChanges().created(created).deleted(Integer.toString(round - 1)));
+            largestPool = Math.max(largestPool, ((HeapEmployeeSnapshot) snapshot).poolSize);
+        }
+
+        assertEquals(List.of("20000"), ids(snapshot));
+        assertEquals("name 20000", snapshot.name(0));
+        assertEquals("name20000@company.com", snapshot.email(0));
+        assertTrue(largestPool <= 2 * HeapEmployeeSnapshot.COMPACT_AFTER_UNREFERENCED + 16, "pool: " + largestPool);
+    }
+
+    @Test
+    void withChanges_fromOlderSnapshot_doesNotSeeNewerAppends() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(1)
+                .add("1", "a", 10, 20, "t", null)
+                .build();
+
+        EmployeeSnapshot newer = snapshot.withChanges(new RosterChanges().created(employeeDTO("2", "b", 20)));
+        EmployeeSnapshot sibling = snapshot.withChanges(new RosterChanges().created(employeeDTO("3", "c", 30)));
+
+        assertEquals(List.of("1", "2"), ids(newer));
+        assertEquals("b", newer.name(1));
+        assertEquals(List.of("1", "3"), ids(sibling));
+        assertEquals("c", sibling.name(1));
+    }
+
+    @Test
+    void highestSalary_whenEmpty_returnsNull() {
+        assertNull(EmployeeSnapshot.of(List.of()).highestSalary());
+    }
+
+    private static EmployeeDTO employeeDTO(String id, String name, Integer salary) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        employeeDTO.setEmployeeName(name);
+        employeeDTO.setEmployeeSalary(salary);
+        return employeeDTO;
+    }
+
+    private static List<String> ids(EmployeeSnapshot snapshot) {
+        return IntStream.range(0, snapshot.size()).mapToObj(snapshot::id).toList();
+    }
+
+    private <T> T readJson(String path, TypeReference<T> typeReference) throws IOException {
+        return objectMapper.readValue(new ClassPathResource(path).getInputStream(), typeReference);
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedEmployeeSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeThenOpen_roundTripsEveryColumn() throws IOException {
+        String uuid = UUID.randomUUID().toString();
+        EmployeeSnapshot heap = EmployeeSnapshot.builder(3)
+                .add(uuid, "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com")
+                .add("9001", "Naruto Uzumaki", 185000, 27, "Vice Chair", null)
+                .add("9002", "Zo\u00eb M\u00fcller", null, null, null, "zoe@company.com")
+                .build();
+        Path file = tempDir.resolve("roster/employees.snapshot");
+
+        MappedEmployeeSnapshot.write(heap, Instant.ofEpochMilli(1_700_000_000_000L), file);
+        MappedEmployeeSnapshot mapped = MappedEmployeeSnapshot.open(file);
+
+        assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), mapped.createdAt());
+        assertEquals(3, mapped.size());
+        for (int row = 0; row < heap.size(); row++) {
+            assertEquals(heap.id(row), mapped.id(row));
+            assertEquals(heap.name(row), mapped.name(row));
+            assertEquals(heap.salary(row), mapped.salary(row));
+            assertEquals(heap.age(row), mapped.age(row));
+            assertEquals(heap.title(row), mapped.title(row));
+            assertEquals(heap.email(row), mapped.email(row));
+        }
+        assertEquals(320800, mapped.highestSalary());
+        assertArrayEquals(new int[] {0, 1}, mapped.topRowsBySalary(10));
+        assertArrayEquals(new int[] {2}, mapped.rowsWithNameContaining(NameKey.of("M\u00dcLL")));
+        assertArrayEquals(heap.rowsWithNameContaining("i"), mapped.rowsWithNameContaining("i"));
+        assertFalse(Files.exists(tempDir.resolve("roster/employees.snapshot.tmp")));
+    }
+
+    @Test
+    void open_rejectsForeignFile() throws IOException {
+        Path file = tempDir.resolve("not-a-snapshot");
+        Files.write(file, new byte[128]);
+
+        assertThrows(IOException.class, () -> MappedEmployeeSnapshot.open(file));
+    }
+}
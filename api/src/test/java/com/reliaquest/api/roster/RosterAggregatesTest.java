@@ -0,0 +1,56 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RosterAggregatesTest {
+    private RosterAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(6)
+                .add("1", "Ann", 100, 40, "Engineer", null)
+                .add("2", "Bob", 300, 25, "Engineer", null)
+                .add("3", "Cid", 200, 40, "Manager", null)
+                .add("4", "Dee", null, 60, "Manager", null)
+                .add("5", "Eve", 300, null, null, null)
+                .add("6", "Fay", 50, 33, "Engineer", null)
+                .build();
+        aggregates = RosterAggregates.of(snapshot);
+    }
+
+    @Test
+    void topRows_rankByValue_andKeepRosterOrderForTies() {
+        assertArrayEquals(new int[] {1, 4, 2}, aggregates.topRowsBySalary(3));
+        assertArrayEquals(new int[] {3, 0, 2, 5, 1}, aggregates.topRowsByAge(10));
+        assertArrayEquals(new int[0], aggregates.topRowsBySalary(0));
+    }
+
+    @Test
+    void salaries_giveNearestRankPercentiles() {
+        SalaryDistribution salaries = aggregates.salaries();
+
+        assertEquals(6, salaries.employees());
+        assertEquals(5, salaries.salaried());
+        assertEquals(50, salaries.percentile(0));
+        assertEquals(200, salaries.percentile(50));
+        assertEquals(300, salaries.percentile(99));
+        assertEquals(190.0, salaries.average());
+        assertEquals(2, salaries.countBetween(100, 300));
+    }
+
+    @Test
+    void salariesByTitle_groupsTitledEmployeesInTitleOrder() {
+        assertEquals(List.of("Engineer", "Manager"), List.copyOf(aggregates.salariesByTitle().keySet()));
+
+        SalaryDistribution managers = aggregates.salaries("Manager");
+        assertEquals(2, managers.employees());
+        assertEquals(1, managers.salaried());
+        assertEquals(200, managers.max());
+        assertEquals(150.0, aggregates.salaries("Engineer").average());
+        assertNull(aggregates.salaries("Designer"));
+    }
+}
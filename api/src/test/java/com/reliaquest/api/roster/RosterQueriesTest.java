@@ -0,0 +1,54 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.RosterProperties;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RosterQueriesTest {
+    private RosterQueries rosterQueries;
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        RosterProperties rosterProperties = new RosterProperties();
+        rosterProperties.getParallel().setThreshold(0);
+        rosterProperties.getParallel().setChunkSize(64);
+        rosterQueries = new RosterQueries(rosterProperties);
+
+        // Narrow salary range so equal salaries straddle chunk boundaries.
+        SplittableRandom random = new SplittableRandom(7);
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(5_000);
+        for (int row = 0; row < 5_000; row++) {
+            Integer salary = row % 11 == 0 ? null : random.nextInt(1, 200);
+            builder.add(String.valueOf(row), "Employee " + row, salary, 30, "Engineer", null);
+        }
+        snapshot = builder.build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterQueries.shutdown();
+    }
+
+    @Test
+    void parallelResults_matchSequentialResults() {
+        assertArrayEquals(
+                snapshot.rowsWithNameContaining("ee 4"), rosterQueries.rowsWithNameContaining(snapshot, "ee 4"));
+        assertEquals(snapshot.highestSalary(), rosterQueries.highestSalary(snapshot));
+        assertArrayEquals(snapshot.topRowsBySalary(10), rosterQueries.topRowsBySalary(snapshot, 10));
+        assertArrayEquals(snapshot.topRowsBySalary(1_000), rosterQueries.topRowsBySalary(snapshot, 1_000));
+    }
+
+    @Test
+    void highestSalary_whenNoSalaries_returnsNull() {
+        EmployeeSnapshot withoutSalaries = EmployeeSnapshot.builder(1)
+                .add("1", "a", null, null, null, null)
+                .build();
+
+        assertNull(rosterQueries.highestSalary(withoutSalaries));
+    }
+}
@@ -5,11 +5,19 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.IdempotencyCache;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.client.dto.EmployeeDTO;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.properties.EmployeeCacheProperties;
+import com.reliaquest.api.properties.IdempotencyProperties;
+import com.reliaquest.api.properties.RosterProperties;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterQueries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +37,15 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(employeeClient, new EmployeeMapper());
+        RosterProperties rosterProperties = new RosterProperties();
+        employeeService = new EmployeeService(
+                employeeClient,
+                new EmployeeMapper(),
+                new EmployeeRoster(employeeClient, rosterProperties, event -> {}),
+                new RosterQueries(rosterProperties),
+                new EmployeeCache(new EmployeeCacheProperties(), new SimpleMeterRegistry()),
+                new IdempotencyCache(new IdempotencyProperties(), new SimpleMeterRegistry()),
+                event -> {});
     }
 
     @Test
@@ -138,14 +154,14 @@ class EmployeeServiceTest {
 
         EmployeeDTO createdDto = readJson("response/employee-30-created-data.json", new TypeReference<>() {});
 
-        when(employeeClient.createEmployee(any(CreateEmployeeRequest.class))).thenReturn(createdDto);
+        when(employeeClient.createEmployee(any(CreateEmployeeRequest.class), any())).thenReturn(createdDto);
 
-        Employee created = employeeService.createEmployee(req);
+        Employee created = employeeService.createEmployee(req, null);
 
         assertNotNull(created);
         assertEquals(createdDto.getId(), created.getId());
         assertEquals("Steph Curry", created.getName());
-        verify(employeeClient, times(1)).createEmployee(any(CreateEmployeeRequest.class));
+        verify(employeeClient, times(1)).createEmployee(any(CreateEmployeeRequest.class), any());
         verifyNoMoreInteractions(employeeClient);
     }
 
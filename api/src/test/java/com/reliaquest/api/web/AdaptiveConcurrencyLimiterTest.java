@@ -0,0 +1,77 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(40);
+
+    private ConcurrencyLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void requestsBeyondLimit_areRejected() {
+        for (int i = 0; i < properties.getInitialLimit(); i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1.0, meterRegistry.get("employee.concurrency.rejected").counter().count());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void steadyLatencyUnderLoad_growsLimit() {
+        sample(FAST, 200);
+
+        assertTrue(limiter.getLimit() > properties.getInitialLimit());
+        assertEquals(limiter.getLimit(), meterRegistry.get("employee.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void latencyRise_shrinksLimit_thenRecovers() {
+        sample(FAST, 1000);
+        int before = limiter.getLimit();
+
+        sample(SLOW, 50);
+        int slowed = limiter.getLimit();
+
+        assertTrue(slowed < before / 2, () -> before + " -> " + slowed);
+        assertTrue(slowed >= properties.getMinLimit());
+
+        sample(FAST, 1000);
+        assertTrue(limiter.getLimit() > slowed);
+    }
+
+    @Test
+    void lightLoad_doesNotGrowLimit() {
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(FAST, 1);
+        }
+
+        assertEquals(properties.getInitialLimit(), limiter.getLimit());
+    }
+
+    // Samples taken with the limit fully used.
+    private void sample(long latencyNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            limiter.onSample(latencyNanos, limiter.getLimit());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+    private BulkheadProperties.Compartment compartment;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        compartment = new BulkheadProperties.Compartment();
+        compartment.setMaxConcurrent(1);
+        compartment.setMaxQueued(0);
+        compartment.setMaxWait(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void fullWithoutQueue_rejectsImmediately() {
+        Bulkhead bulkhead = new Bulkhead("roster", compartment, meterRegistry);
+        assertTrue(bulkhead.tryAcquire());
+        long start = System.nanoTime();
+
+        assertFalse(bulkhead.tryAcquire());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        assertEquals(1.0, rejected());
+        assertEquals(1.0, meterRegistry.get("employee.bulkhead.active").gauge().value());
+    }
+
+    @Test
+    void queuedCall_isAdmittedWhenSlotIsReleased() throws Exception {
+        compartment.setMaxQueued(1);
+        Bulkhead bulkhead = new Bulkhead("roster", compartment, meterRegistry);
+        assertTrue(bulkhead.tryAcquire());
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        while (bulkhead.queued() == 0) {
+            Thread.onSpinWait();
+        }
+        assertFalse(bulkhead.tryAcquire());
+        bulkhead.release();
+
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, rejected());
+    }
+
+    @Test
+    void queuedCall_isRejectedAfterMaxWait() {
+        compartment.setMaxQueued(1);
+        compartment.setMaxWait(Duration.ofMillis(20));
+        Bulkhead bulkhead = new Bulkhead("roster", compartment, meterRegistry);
+        assertTrue(bulkhead.tryAcquire());
+
+        assertFalse(bulkhead.tryAcquire());
+
+        assertEquals(0, bulkhead.queued());
+        assertEquals(1.0, rejected());
+    }
+
+    @Test
+    void requestDeadlineShortensWait() {
+        compartment.setMaxQueued(1);
+        Bulkhead bulkhead = new Bulkhead("roster", compartment, meterRegistry);
+        assertTrue(bulkhead.tryAcquire());
+        RequestDeadline.start(Duration.ofMillis(20));
+        try {
+            long start = System.nanoTime();
+
+            assertFalse(bulkhead.tryAcquire());
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private double rejected() {
+        return meterRegistry.get("employee.bulkhead.rejected").counter().count();
+    }
+}
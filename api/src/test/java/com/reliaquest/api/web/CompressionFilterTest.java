@@ -0,0 +1,154 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.properties.CompressionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class CompressionFilterTest {
+    private static final byte[] LARGE_BODY =
+            "{\"name\":\"Tony Stark\"},".repeat(500).getBytes(StandardCharsets.UTF_8);
+
+    private final CompressionFilter filter = new CompressionFilter(new CompressionProperties());
+
+    @Test
+    void largeJson_isGzipped() throws Exception {
+        MockHttpServletResponse response =
+                filter(request("gzip, deflate"), MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertTrue(response.getContentAsByteArray().length < LARGE_BODY.length / 10);
+        assertArrayEquals(LARGE_BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void smallJson_isSentAsIs_withContentLength() throws Exception {
+        byte[] body = "{\"name\":\"Tony Stark\"}".getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletResponse response = filter(request("gzip"), MediaType.APPLICATION_JSON_VALUE, body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body.length, response.getContentLength());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void withoutAcceptedGzip_isSentAsIs() throws Exception {
+        for (String acceptEncoding : new String[] {null, "identity", "gzip;q=0", "br"}) {
+            MockHttpServletResponse response =
+                    filter(request(acceptEncoding), MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+            assertArrayEquals(LARGE_BODY, response.getContentAsByteArray());
+        }
+    }
+
+    @Test
+    void otherContentTypes_areSentAsIs() throws Exception {
+        MockHttpServletResponse response = filter(request("gzip"), MediaType.TEXT_EVENT_STREAM_VALUE, LARGE_BODY);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(LARGE_BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void asyncNonBlockingWrites_passListenerThroughUncompressed() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ListeningOutputStream underlying = new ListeningOutputStream(response.getOutputStream());
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {}
+
+            @Override
+            public void onError(Throwable ex) {}
+        };
+        HttpServletResponse wrapped = new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return underlying;
+            }
+        };
+        FilterChain chain = (req, res) -> {
+            req.startAsync();
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ServletOutputStream out = res.getOutputStream();
+            out.setWriteListener(listener);
+            assertTrue(out.isReady());
+            out.write(LARGE_BODY);
+        };
+
+        filter.doFilter(request, wrapped, chain);
+
+        assertSame(listener, underlying.writeListener);
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(LARGE_BODY, response.getContentAsByteArray());
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, String contentType, byte[] body)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            res.setContentType(contentType);
+            res.setContentLength(body.length);
+            res.getOutputStream().write(body);
+            res.flushBuffer();
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private static class ListeningOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private WriteListener writeListener;
+
+        ListeningOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
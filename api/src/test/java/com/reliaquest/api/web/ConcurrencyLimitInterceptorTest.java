@@ -0,0 +1,74 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.properties.BulkheadProperties;
+import com.reliaquest.api.properties.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class ConcurrencyLimitInterceptorTest {
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private BulkheadInterceptor bulkheadInterceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BulkheadProperties bulkheadProperties = new BulkheadProperties();
+        bulkheadProperties.getRoster().setMaxConcurrent(1);
+        bulkheadProperties.getRoster().setMaxQueued(0);
+        concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(properties, meterRegistry, new ObjectMapper());
+        bulkheadInterceptor = new BulkheadInterceptor(bulkheadProperties, meterRegistry, new ObjectMapper());
+        handler = new HandlerMethod(new RosterHandler(), RosterHandler.class.getMethod("getAllEmployees"));
+    }
+
+    @Test
+    void bulkheadRejections_doNotGrowLimit() throws Exception {
+        holdAdmitted(properties.getInitialLimit() - 1);
+        assertTrue(bulkheadInterceptor.preHandle(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), handler));
+
+        for (int i = 0; i < 100; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertTrue(concurrencyLimitInterceptor.preHandle(request, response, handler));
+            assertFalse(bulkheadInterceptor.preHandle(request, response, handler));
+            concurrencyLimitInterceptor.afterCompletion(request, response, handler, null);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        }
+
+        assertEquals(properties.getInitialLimit(), limit());
+        assertEquals(properties.getInitialLimit() - 1, inFlight());
+    }
+
+    // Requests admitted and still in flight, so that the limiter counts as busy.
+    private void holdAdmitted(int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            assertTrue(concurrencyLimitInterceptor.preHandle(
+                    new MockHttpServletRequest(), new MockHttpServletResponse(), handler));
+        }
+    }
+
+    private int limit() {
+        return (int) meterRegistry.get("employee.concurrency.limit").gauge().value();
+    }
+
+    private int inFlight() {
+        return (int) meterRegistry.get("employee.concurrency.in_flight").gauge().value();
+    }
+
+    static class RosterHandler {
+
+        @Bulkheaded(OperationClass.ROSTER)
+        public void getAllEmployees() {}
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * The seven {@code IEmployeeController} operations the generator can drive.
+ */
+public enum Endpoint {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    GET_BY_ID("getById"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    @Getter
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Endpoint::getKey).toList()));
+    }
+
+    // employeeApi is the api root ending in "/api/"
+    HttpRequest.Builder request(URI employeeApi, RequestContext context) {
+        return switch (this) {
+            case GET_ALL -> HttpRequest.newBuilder(employeeApi.resolve("employee")).GET();
+            case SEARCH -> HttpRequest.newBuilder(employeeApi.resolve("employee/search/" + context.searchFragment()))
+                    .GET();
+            case GET_BY_ID -> HttpRequest.newBuilder(employeeApi.resolve("employee/" + context.knownId()))
+                    .GET();
+            case HIGHEST_SALARY -> HttpRequest.newBuilder(employeeApi.resolve("employee/highestSalary"))
+                    .GET();
+            case TOP_TEN -> HttpRequest.newBuilder(employeeApi.resolve("employee/topTenHighestEarningEmployeeNames"))
+                    .GET();
+            case CREATE -> HttpRequest.newBuilder(employeeApi.resolve("employee"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(context.createBody()));
+            case DELETE -> HttpRequest.newBuilder(employeeApi.resolve("employee/" + context.deletableId()))
+                    .DELETE();
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome counters and latency histogram for one endpoint. Latency is measured from the request's intended send time,
+ * so a stalled system shows up as latency instead of silently lowering the offered rate.
+ */
+class EndpointStats {
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(10), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        recordLatency(latencyNanos);
+    }
+
+    void recordFailure(Throwable failure, long latencyNanos) {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        failures.computeIfAbsent(cause.getClass().getSimpleName(), ignored -> new LongAdder())
+                .increment();
+        recordLatency(latencyNanos);
+    }
+
+    // The in-flight cap was reached; the request was never sent.
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    long completed() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long count(int status) {
+        LongAdder count = statuses.get(status);
+        return count == null ? 0 : count.sum();
+    }
+
+    long serverErrors() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 500)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    long failures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<Integer, Long> statusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    Map<String, Long> failureCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latencyMicros.recordValue(Math.min(
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencyMicros.getHighestTrackableValue()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties. Properties under {@code loadtest.server.} and
+ * {@code loadtest.api.} are handed to the respective application as command line arguments, e.g.
+ * {@code -Dloadtest.server.mock.employees.max=5000}.
+ */
+@Value
+@Builder
+public class LoadTestConfig {
+
+    static final String PREFIX = "loadtest.";
+    private static final String SERVER_PREFIX = PREFIX + "server.";
+    private static final String API_PREFIX = PREFIX + "api.";
+
+    // Requests per second offered, independent of how fast responses come back.
+    double rate;
+    Duration warmup;
+    Duration duration;
+    Duration requestTimeout;
+    Map<Endpoint, Integer> mix;
+    int employees;
+    int maxInFlight;
+    long seed;
+    Path output;
+    // Fraction of failed requests (transport errors and 5xx) above which the run exits non-zero; negative disables.
+    double maxErrorRate;
+    List<String> serverArgs;
+    List<String> apiArgs;
+
+    public static LoadTestConfig from(Properties properties) {
+        return LoadTestConfig.builder()
+                .rate(Double.parseDouble(properties.getProperty(PREFIX + "rate", "100")))
+                .warmup(Duration.parse(properties.getProperty(PREFIX + "warmup", "PT10S")))
+                .duration(Duration.parse(properties.getProperty(PREFIX + "duration", "PT60S")))
+                .requestTimeout(Duration.parse(properties.getProperty(PREFIX + "requestTimeout", "PT10S")))
+                .mix(parseMix(properties.getProperty(
+                        PREFIX + "mix",
+                        "getAll=1,search=1,getById=4,highestSalary=1,topTen=1,create=1,delete=1")))
+                .employees(Integer.parseInt(properties.getProperty(PREFIX + "employees", "1000")))
+                .maxInFlight(Integer.parseInt(properties.getProperty(PREFIX + "maxInFlight", "10000")))
+                .seed(Long.parseLong(properties.getProperty(PREFIX + "seed", "42")))
+                .output(Path.of(properties.getProperty(PREFIX + "output", "build/reports/loadtest")))
+                .maxErrorRate(Double.parseDouble(properties.getProperty(PREFIX + "maxErrorRate", "-1")))
+                .serverArgs(passThrough(properties, SERVER_PREFIX))
+                .apiArgs(passThrough(properties, API_PREFIX))
+                .build();
+    }
+
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] keyValue = entry.trim().split("=");
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like endpoint=weight, got: " + entry);
+            }
+            int weight = Integer.parseInt(keyValue[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.fromKey(keyValue[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one endpoint a positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static List<String> passThrough(Properties properties, String prefix) {
+        List<String> args = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                args.add("--" + name.substring(prefix.length()) + "=" + properties.getProperty(name));
+            }
+        }
+        return args;
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+class LoadTestResults {
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private Duration elapsed = Duration.ZERO;
+
+    LoadTestResults(Iterable<Endpoint> endpoints) {
+        endpoints.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    EndpointStats stats(Endpoint endpoint) {
+        return stats.get(endpoint);
+    }
+
+    Map<Endpoint, EndpointStats> byEndpoint() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    Duration elapsed() {
+        return elapsed;
+    }
+
+    long completed() {
+        return stats.values().stream().mapToLong(EndpointStats::completed).sum();
+    }
+
+    /** Transport failures, 5xx responses and dropped requests over everything attempted. */
+    double errorRate() {
+        long failed = stats.values().stream()
+                .mapToLong(endpointStats ->
+                        endpointStats.failures() + endpointStats.serverErrors() + endpointStats.dropped())
+                .sum();
+        long attempted = stats.values().stream()
+                .mapToLong(endpointStats -> endpointStats.completed() + endpointStats.dropped())
+                .sum();
+        return attempted == 0 ? 0 : (double) failed / attempted;
+    }
+
+    Histogram combinedLatencyMicros() {
+        Histogram combined = new Histogram(3);
+        stats.values().forEach(endpointStats -> combined.add(endpointStats.latencyMicros()));
+        return combined;
+    }
+}
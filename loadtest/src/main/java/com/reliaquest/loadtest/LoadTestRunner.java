@@ -0,0 +1,113 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock server and the api in this JVM on random ports, warms up, then drives the configured request mix and
+ * writes the report. See {@link LoadTestConfig} for the available settings.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(System.getProperties());
+        int exitCode = 0;
+
+        ExecutorService httpExecutor =
+                Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try (ConfigurableApplicationContext server = start(ServerApplication.class, serverArgs(config));
+                ConfigurableApplicationContext api = start(ApiApplication.class, apiArgs(config, port(server)))) {
+            List<String> knownIds = server.getBean(MockEmployeeService.class).getMockEmployees().stream()
+                    .map(mockEmployee -> mockEmployee.getId().toString())
+                    .toList();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+            OpenLoopGenerator generator = new OpenLoopGenerator(
+                    httpClient,
+                    URI.create("http://localhost:" + port(api) + "/api/"),
+                    config,
+                    new RequestContext(config.getSeed(), knownIds));
+
+            log.info("Warming up at {} req/s for {}", config.getRate(), config.getWarmup());
+            generator.run(config.getWarmup());
+            log.info(
+                    "Measuring at {} req/s for {} with mix {}",
+                    config.getRate(),
+                    config.getDuration(),
+                    config.getMix());
+            LoadTestResults results = generator.run(config.getDuration());
+
+            Path summary = new ReportWriter(config).write(results, System.out);
+            log.info("Report written to {} (error rate {})", summary, results.errorRate());
+            if (config.getMaxErrorRate() >= 0 && results.errorRate() > config.getMaxErrorRate()) {
+                log.error(
+                        "Error rate {} exceeds loadtest.maxErrorRate {}",
+                        results.errorRate(),
+                        config.getMaxErrorRate());
+                exitCode = 1;
+            }
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+        System.exit(exitCode);
+    }
+
+    static ConfigurableApplicationContext start(Class<?> application, List<String> args) {
+        // Command line arguments outrank the application.yml of whichever module comes first on the classpath.
+        return new SpringApplicationBuilder(application).run(args.toArray(String[]::new));
+    }
+
+    private static List<String> serverArgs(LoadTestConfig config) {
+        return withOverrides(
+                List.of(
+                        "--server.port=0",
+                        "--mock.employees.max=" + config.getEmployees(),
+                        "--logging.level.com.reliaquest=INFO"),
+                config.getServerArgs());
+    }
+
+    private static List<String> apiArgs(LoadTestConfig config, int serverPort) {
+        return withOverrides(
+                List.of(
+                        "--server.port=0",
+                        "--employee-client.base-uri=http://localhost:" + serverPort + "/api/v1",
+                        "--logging.level.com.reliaquest=INFO"),
+                config.getApiArgs());
+    }
+
+    // Repeating a key on the command line makes Spring join the values, so an override replaces the default outright.
+    private static List<String> withOverrides(List<String> defaults, List<String> overrides) {
+        List<String> args = new ArrayList<>(overrides);
+        defaults.stream()
+                .filter(arg -> overrides.stream().noneMatch(override -> override.startsWith(key(arg))))
+                .forEach(args::add);
+        return args;
+    }
+
+    private static String key(String arg) {
+        return arg.substring(0, arg.indexOf('=') + 1);
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues requests on a fixed schedule regardless of how quickly earlier ones complete (open loop). Each request's
+ * latency is taken from its scheduled start rather than its actual send time, which keeps the histograms free of
+ * coordinated omission when the generator or the system under test falls behind.
+ */
+@Slf4j
+class OpenLoopGenerator {
+
+    private final HttpClient httpClient;
+    private final URI employeeApi;
+    private final LoadTestConfig config;
+    private final RequestContext context;
+    private final Endpoint[] weightedEndpoints;
+
+    OpenLoopGenerator(HttpClient httpClient, URI employeeApi, LoadTestConfig config, RequestContext context) {
+        this.httpClient = httpClient;
+        this.employeeApi = employeeApi;
+        this.config = config;
+        this.context = context;
+        this.weightedEndpoints = weighted(config.getMix());
+    }
+
+    LoadTestResults run(Duration duration) throws InterruptedException {
+        LoadTestResults results = new LoadTestResults(config.getMix().keySet());
+        Semaphore inFlight = new Semaphore(config.getMaxInFlight());
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedStart = start + (long) (sequence * intervalNanos);
+            if (intendedStart >= end) {
+                break;
+            }
+            for (long now = System.nanoTime(); now < intendedStart; now = System.nanoTime()) {
+                LockSupport.parkNanos(intendedStart - now);
+            }
+
+            Endpoint endpoint = context.nextEndpoint(weightedEndpoints);
+            EndpointStats stats = results.stats(endpoint);
+            if (!inFlight.tryAcquire()) {
+                stats.recordDropped();
+                continue;
+            }
+
+            HttpRequest request = endpoint.request(employeeApi, context)
+                    .timeout(config.getRequestTimeout())
+                    .build();
+            httpClient
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long latencyNanos = System.nanoTime() - intendedStart;
+                        try {
+                            if (failure != null) {
+                                stats.recordFailure(failure, latencyNanos);
+                                return;
+                            }
+                            stats.recordResponse(response.statusCode(), latencyNanos);
+                            if (endpoint == Endpoint.CREATE && response.statusCode() / 100 == 2) {
+                                context.onCreated(response.body());
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        }
+
+        Duration drainTimeout = config.getRequestTimeout().plusSeconds(5);
+        if (!inFlight.tryAcquire(config.getMaxInFlight(), drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Requests still in flight after {}; they are missing from the results", drainTimeout);
+        } else {
+            inFlight.release(config.getMaxInFlight());
+        }
+        results.finish(Duration.ofNanos(System.nanoTime() - start));
+        return results;
+    }
+
+    private static Endpoint[] weighted(Map<Endpoint, Integer> mix) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                endpoints.add(endpoint);
+            }
+        });
+        return endpoints.toArray(Endpoint[]::new);
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes {@code summary.json} plus one HdrHistogram percentile distribution ({@code .hgrm}, milliseconds) per endpoint
+ * into the output directory, and prints a one-line-per-endpoint table.
+ */
+@RequiredArgsConstructor
+class ReportWriter {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    Path write(LoadTestResults results, PrintStream console) throws IOException {
+        Path output = config.getOutput();
+        Files.createDirectories(output);
+
+        double elapsedSeconds = results.elapsed().toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        console.printf(
+                "%-14s %9s %9s %8s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "completed", "req/s", "429", "5xx", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.byEndpoint().forEach((endpoint, stats) -> {
+            Histogram latency = stats.latencyMicros();
+            endpoints.put(endpoint.getKey(), summary(stats, latency, elapsedSeconds));
+            console.printf(
+                    "%-14s %9d %9.1f %8d %8d %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getKey(),
+                    stats.completed(),
+                    stats.completed() / elapsedSeconds,
+                    stats.count(429),
+                    stats.serverErrors(),
+                    stats.failures() + stats.dropped(),
+                    millis(latency, 50),
+                    millis(latency, 99),
+                    millis(latency, 99.9),
+                    latency.getMaxValue() / MICROS_PER_MILLI);
+            writeHistogram(output.resolve("latency-" + endpoint.getKey() + ".hgrm"), latency);
+        });
+        writeHistogram(output.resolve("latency-all.hgrm"), results.combinedLatencyMicros());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("offeredRatePerSecond", config.getRate());
+        summary.put("durationSeconds", elapsedSeconds);
+        summary.put("completed", results.completed());
+        summary.put("throughputPerSecond", results.completed() / elapsedSeconds);
+        summary.put("errorRate", results.errorRate());
+        summary.put("mix", config.getMix());
+        summary.put("endpoints", endpoints);
+        summary.put("latencyMs", latencySummary(results.combinedLatencyMicros()));
+
+        Path summaryFile = output.resolve("summary.json");
+        objectMapper.writeValue(summaryFile.toFile(), summary);
+        return summaryFile;
+    }
+
+    private Map<String, Object> summary(EndpointStats stats, Histogram latency, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("completed", stats.completed());
+        summary.put("throughputPerSecond", stats.completed() / elapsedSeconds);
+        summary.put("statuses", stats.statusCounts());
+        summary.put("rateLimited", stats.count(429));
+        summary.put("serverErrors", stats.serverErrors());
+        summary.put("failures", stats.failureCounts());
+        summary.put("dropped", stats.dropped());
+        summary.put("latencyMs", latencySummary(latency));
+        return summary;
+    }
+
+    private static Map<String, Object> latencySummary(Histogram latency) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("mean", latency.getMean() / MICROS_PER_MILLI);
+        summary.put("p50", millis(latency, 50));
+        summary.put("p90", millis(latency, 90));
+        summary.put("p99", millis(latency, 99));
+        summary.put("p99.9", millis(latency, 99.9));
+        summary.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+        return summary;
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static void writeHistogram(Path file, Histogram latency) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to write " + file, ex);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Request parameters for the generator. Random choices are only made on the generator thread, so a run with the same
+ * seed and mix issues the same request sequence.
+ */
+class RequestContext {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    private static final Pattern CREATED_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final SplittableRandom random;
+    private final List<String> knownIds;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    RequestContext(long seed, List<String> knownIds) {
+        this.random = new SplittableRandom(seed);
+        this.knownIds = List.copyOf(knownIds);
+    }
+
+    Endpoint nextEndpoint(Endpoint[] weightedEndpoints) {
+        return weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+    }
+
+    String searchFragment() {
+        return new String(new char[] {
+            ALPHABET.charAt(random.nextInt(ALPHABET.length())), ALPHABET.charAt(random.nextInt(ALPHABET.length()))
+        });
+    }
+
+    String knownId() {
+        return knownIds.isEmpty()
+                ? "00000000-0000-0000-0000-000000000000"
+                : knownIds.get(random.nextInt(knownIds.size()));
+    }
+
+    // Prefer deleting employees this run created so the seeded roster stays intact for lookups.
+    String deletableId() {
+        String createdId = createdIds.poll();
+        return createdId != null ? createdId : knownId();
+    }
+
+    String createBody() {
+        int suffix = random.nextInt(1_000_000);
+        return """
+                {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                .formatted(suffix, random.nextInt(30_000, 500_000), random.nextInt(16, 76));
+    }
+
+    void onCreated(String responseBody) {
+        Matcher matcher = CREATED_ID.matcher(responseBody);
+        if (matcher.find()) {
+            createdIds.add(matcher.group(1));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures cold start of the api as time from process launch to the first successful {@code GET /api/employee}, for
+ * each startup mode, against an in-process mock server. Each iteration is a fresh JVM. Reads {@code startup.*}
+ * system properties; {@code startup.layout} is the api's {@code build/fast-startup} directory.
+ */
+@Slf4j
+public final class StartupBenchmark {
+
+    private static final String PREFIX = "startup.";
+
+    enum Mode {
+        DEFAULT(List.of()),
+        LAZY(List.of("-Dspring.profiles.active=fast-startup")),
+        CDS(List.of("-XX:SharedArchiveFile=app.jsa")),
+        AOT(List.of("-Dspring.aot.enabled=true")),
+        AOT_CDS_LAZY(List.of(
+                "-XX:SharedArchiveFile=app.jsa",
+                "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=fast-startup")),
+        // Uses startup.nativeExecutable instead of the JVM.
+        NATIVE(List.of("-Dspring.profiles.active=fast-startup"));
+
+        private final List<String> flags;
+
+        Mode(List<String> flags) {
+            this.flags = flags;
+        }
+    }
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        Properties properties = System.getProperties();
+        Path layout = Path.of(properties.getProperty(PREFIX + "layout"));
+        String mainClass = properties.getProperty(PREFIX + "mainClass", "com.reliaquest.api.ApiApplication");
+        int iterations = Integer.parseInt(properties.getProperty(PREFIX + "iterations", "5"));
+        Duration timeout = Duration.parse(properties.getProperty(PREFIX + "timeout", "PT60S"));
+        String nativeExecutable = properties.getProperty(PREFIX + "nativeExecutable");
+        Path output = Path.of(properties.getProperty(PREFIX + "output", "build/reports/startup"));
+        List<Mode> modes = Arrays.stream(properties
+                        .getProperty(PREFIX + "modes", "DEFAULT,LAZY,CDS,AOT,AOT_CDS_LAZY,NATIVE")
+                        .split(","))
+                .map(String::trim)
+                .map(Mode::valueOf)
+                .filter(mode -> mode != Mode.NATIVE || nativeExecutable != null)
+                .toList();
+        String classpath = Files.readString(layout.resolve("classpath.txt")).trim();
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+        Map<String, Object> report = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext server = LoadTestRunner.start(
+                ServerApplication.class,
+                List.of("--server.port=0", "--mock.rate-limit.enabled=false", "--logging.level.com.reliaquest=INFO"))) {
+            String baseUri = "http://localhost:" + LoadTestRunner.port(server) + "/api/v1";
+            for (Mode mode : modes) {
+                List<Long> millis = new ArrayList<>();
+                for (int iteration = 0; iteration < iterations; iteration++) {
+                    List<String> command = new ArrayList<>();
+                    if (mode == Mode.NATIVE) {
+                        command.add(nativeExecutable);
+                        command.addAll(mode.flags);
+                    } else {
+                        command.add(java);
+                        command.addAll(mode.flags);
+                        command.addAll(List.of("-cp", classpath, mainClass));
+                    }
+                    millis.add(timeToFirstResponse(httpClient, layout, command, baseUri, timeout).toMillis());
+                }
+                millis.sort(Long::compare);
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("minMs", millis.get(0));
+                summary.put("medianMs", millis.get(millis.size() / 2));
+                summary.put("maxMs", millis.get(millis.size() - 1));
+                summary.put("samplesMs", millis);
+                report.put(mode.name(), summary);
+                System.out.printf(
+                        "%-13s min %6d ms  median %6d ms  max %6d ms%n",
+                        mode, millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+            }
+        }
+
+        Files.createDirectories(output);
+        Path summary = output.resolve("startup.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(summary.toFile(), report);
+        log.info("Startup report written to {}", summary);
+        System.exit(0);
+    }
+
+    private static Duration timeToFirstResponse(
+            HttpClient httpClient, Path layout, List<String> command, String baseUri, Duration timeout)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.add("--employee-client.base-uri=" + baseUri);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employee"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .directory(layout.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < timeout.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Exited with " + process.exitValue() + ": " + fullCommand);
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start);
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet, or the connection was dropped while the server started.
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("No successful response within " + timeout + ": " + fullCommand);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
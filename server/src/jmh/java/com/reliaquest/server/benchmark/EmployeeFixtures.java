@@ -0,0 +1,57 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic mock employees and throwaway store directories for the persistence benchmarks.
+ */
+public final class EmployeeFixtures {
+
+    private static final String[] TITLES = {
+        "Documentation Engineer", "Financial Advisor", "Chief Innovation Engineer", "Lead Operations Specialist"
+    };
+
+    private EmployeeFixtures() {}
+
+    public static List<MockEmployee> employees(int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<MockEmployee> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Employee " + i)
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    public static PersistenceProperties persistence(Path directory, boolean fsync) {
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setFsync(fsync);
+        return properties;
+    }
+
+    public static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
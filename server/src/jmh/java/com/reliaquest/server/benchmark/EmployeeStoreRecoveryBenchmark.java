@@ -0,0 +1,85 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup cost of restoring a persisted roster of {@code rows} employees, of which the last {@code logRows} are
+ * replayed from the log rather than the snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeStoreRecoveryBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"0", "100000"})
+    public int logRows;
+
+    private Path directory;
+    private PersistenceProperties properties;
+    private EmployeeStore employeeStore;
+
+    @Setup
+    public void persist() throws IOException {
+        directory = Files.createTempDirectory("employee-store-recovery");
+        properties = EmployeeFixtures.persistence(directory, false);
+        properties.setCompactAfter(Integer.MAX_VALUE);
+
+        List<MockEmployee> employees = EmployeeFixtures.employees(rows, 42L);
+        EmployeeStore seedingStore = new EmployeeStore(properties);
+        seedingStore.open(() -> employees.subList(0, rows - logRows));
+        employees.subList(rows - logRows, rows).forEach(seedingStore::created);
+        seedingStore.close();
+
+        System.out.printf(
+                "%n[employee-store] rows=%d logRows=%d snapshotBytes=%d logBytes=%d%n",
+                rows,
+                logRows,
+                Files.size(directory.resolve("employees.snapshot")),
+                Files.size(directory.resolve("employees.wal")));
+    }
+
+    // Stopping the writer is not part of recovery.
+    @TearDown(Level.Iteration)
+    public void close() {
+        employeeStore.close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        EmployeeFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public List<MockEmployee> recover() {
+        employeeStore = new EmployeeStore(properties);
+        return employeeStore.open(() -> {
+            throw new IllegalStateException("Nothing persisted in " + directory);
+        });
+    }
+}
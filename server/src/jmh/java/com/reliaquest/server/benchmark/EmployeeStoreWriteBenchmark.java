@@ -0,0 +1,80 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time per create when one million are submitted back to back and then flushed, i.e. until the last group commit is
+ * on disk. Compaction is pushed out of the way so only log appends are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@OperationsPerInvocation(EmployeeStoreWriteBenchmark.ROWS)
+public class EmployeeStoreWriteBenchmark {
+
+    static final int ROWS = 1_000_000;
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    @Param({"4096"})
+    public int maxBatch;
+
+    private List<MockEmployee> employees;
+    private Path directory;
+    private EmployeeStore employeeStore;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        employees = EmployeeFixtures.employees(ROWS, 42L);
+    }
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("employee-store-write");
+        PersistenceProperties properties = EmployeeFixtures.persistence(directory, fsync);
+        properties.setMaxBatch(maxBatch);
+        properties.setCompactAfter(Integer.MAX_VALUE);
+        employeeStore = new EmployeeStore(properties);
+        employeeStore.open(ArrayList::new);
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws IOException {
+        employeeStore.close();
+        EmployeeFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public void createAndFlush() {
+        for (MockEmployee employee : employees) {
+            employeeStore.created(employee);
+        }
+        employeeStore.flush();
+    }
+}
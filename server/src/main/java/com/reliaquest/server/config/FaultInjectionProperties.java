@@ -0,0 +1,74 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup settings for fault injection under {@code /api}. They can be replaced while running through
+ * {@code PUT /admin/faults}, which takes the same structure as JSON.
+ */
+@Component
+@Data
+@ConfigurationProperties("mock.faults")
+public class FaultInjectionProperties {
+
+    // Seeds every random draw below; unset picks a fresh seed each time the settings are applied and logs it.
+    private Long seed;
+
+    // Checked in order; the first route whose method and path match decides the faults. No routes injects nothing.
+    private List<Route> routes = new ArrayList<>();
+
+    public enum Distribution {
+        FIXED,
+        NORMAL,
+        PARETO
+    }
+
+    @Data
+    public static class Latency {
+        private Distribution distribution = Distribution.FIXED;
+
+        // The delay for FIXED, the mean for NORMAL and the minimum (scale) for PARETO.
+        private Duration delay = Duration.ZERO;
+
+        // NORMAL only.
+        private Duration stddev = Duration.ZERO;
+
+        // PARETO only. Smaller values give a heavier tail; at 1 or below the mean is unbounded.
+        private double shape = 1.5;
+
+        // Upper bound on every sampled delay.
+        private Duration max = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Route {
+        // Any method when unset.
+        private String method;
+
+        // Spring path pattern, e.g. /api/v1/employee/{id} or /api/v1/**.
+        private String path;
+
+        // Added before the request is handled; none when unset.
+        private Latency latency;
+
+        // Fraction of requests answered with errorStatus without reaching the controller.
+        private double errorRate;
+
+        private int errorStatus = 500;
+
+        // Fraction of requests whose connection is closed after the headers and half of the body.
+        private double dropRate;
+
+        // Fraction of requests whose body is sent dripBytes at a time, one chunk per dripInterval.
+        private double slowDripRate;
+
+        private int dripBytes = 64;
+
+        private Duration dripInterval = Duration.ofMillis(100);
+    }
+}
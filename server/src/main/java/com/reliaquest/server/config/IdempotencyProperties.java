@@ -0,0 +1,18 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("mock.idempotency")
+public class IdempotencyProperties {
+
+    // Creates remembered by Idempotency-Key; the oldest are forgotten first once full.
+    private int maxKeys = 10_000;
+
+    // How long a create is replayed for its key. Keys are kept in memory only, never persisted.
+    private Duration ttl = Duration.ofHours(24);
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.server.config;
+
+import java.nio.file.Path;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("mock.persistence")
+public class PersistenceProperties {
+
+    // Off keeps the roster purely in memory and regenerates it on every start.
+    private boolean enabled;
+
+    // Holds employees.snapshot and employees.wal.
+    private Path directory = Path.of("data");
+
+    // Most log records written and synced together in one group commit.
+    private int maxBatch = 4096;
+
+    // Records waiting for the writer. Once full, creates and deletes wait for room rather than being dropped.
+    private int queueCapacity = 65536;
+
+    // Log records after which the current roster is written as a new snapshot and the log is truncated.
+    private int compactAfter = 1_000_000;
+
+    // Sync every group commit to disk; off leaves flushing to the operating system.
+    private boolean fsync = true;
+}
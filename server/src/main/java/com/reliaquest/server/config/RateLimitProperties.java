@@ -0,0 +1,78 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties("mock.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Seeds every randomized value below; unset picks a fresh seed per start and logs it so the run can be repeated.
+    private Long seed;
+
+    // Give each client its own budget per policy instead of one budget shared by every caller.
+    private boolean perClient;
+
+    // Identifies the client when per-client limiting is on; requests without it are keyed by remote address.
+    private String clientHeader = "X-Client-Id";
+
+    // Client budgets kept at most. Budgets untouched for two windows are dropped; while still full, clients not seen
+    // before share one budget per policy, so rotating client keys cannot grow the heap.
+    private int maxClients = 10_000;
+
+    // Applies to every request no route matches. Without a limit it is drawn from 'random' using the seed.
+    private Policy defaults = new Policy();
+
+    // Checked in order; the first route whose method and path match decides the policy. Unset fields inherit defaults.
+    private List<Route> routes = new ArrayList<>();
+
+    private Random random = new Random();
+
+    public enum Algorithm {
+        FIXED_WINDOW,
+        SLIDING_WINDOW,
+        TOKEN_BUCKET
+    }
+
+    @Data
+    public static class Policy {
+        private Algorithm algorithm;
+
+        // Requests allowed per window; for the token bucket, the burst size and refill per window.
+        private Integer limit;
+
+        private Duration window;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class Route extends Policy {
+        // Any method when unset.
+        private String method;
+
+        // Spring path pattern, e.g. /api/v1/employee/{id} or /api/v1/**.
+        private String path;
+    }
+
+    @Data
+    public static class Random {
+        // Limit drawn from [minLimit, maxLimit) and window from [minWindow, maxWindow), as the mock always has.
+        private int minLimit = 5;
+
+        private int maxLimit = 10;
+
+        private Duration minWindow = Duration.ofSeconds(30);
+
+        private Duration maxWindow = Duration.ofSeconds(90);
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.FaultInjectionWebFilter;
+import com.reliaquest.server.web.RequestLimitWebFilter;
+import com.reliaquest.server.web.RosterStreamHandler;
+import com.reliaquest.server.web.faults.FaultInjector;
+import com.reliaquest.server.web.ratelimit.RateLimitEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * WebFlux/Netty runtime, active under the {@code reactive} profile. The annotated controllers serve both runtimes;
+ * this adds the reactive counterparts of {@link ServerConfiguration}'s MVC pieces and streams the roster.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveServerConfiguration implements WebFluxConfigurer {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final RateLimitProperties rateLimitProperties;
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        final ObjectMapper smileObjectMapper = ServerConfiguration.smileObjectMapper();
+        configurer.customCodecs().register(new Jackson2SmileEncoder(smileObjectMapper));
+        configurer.customCodecs().register(new Jackson2SmileDecoder(smileObjectMapper));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mock.rate-limit", name = "enabled", matchIfMissing = true)
+    public RequestLimitWebFilter requestLimitWebFilter() {
+        return new RequestLimitWebFilter(
+                RateLimitEngine.from(rateLimitProperties), rateLimitProperties.getClientHeader());
+    }
+
+    // Ahead of rate limiting, as the servlet filter is ahead of the MVC interceptor.
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public FaultInjectionWebFilter faultInjectionWebFilter(FaultInjector faultInjector, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        return new FaultInjectionWebFilter(
+                faultInjector, objectMapper.writeValueAsBytes(Response.error(ServerConfiguration.INJECTED_FAULT)));
+    }
+
+    /*
+     * Takes GET /api/v1/employee ahead of the annotated controller, except for Smile requests, which the controller
+     * still answers in one piece.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> rosterStreamRoute(
+            MockEmployeeService mockEmployeeService, ObjectMapper objectMapper) {
+        final var handler = new RosterStreamHandler(mockEmployeeService, objectMapper);
+        final RequestPredicate smile = request -> request.headers().accept().stream()
+                .anyMatch(APPLICATION_SMILE::equalsTypeAndSubtype);
+        return RouterFunctions.route(
+                RequestPredicates.GET("/api/v1/employee").and(smile.negate()), handler::getEmployees);
+    }
+}
@@ -1,30 +1,50 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.persistence.EmployeeStore;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.faults.FaultInjector;
+import com.reliaquest.server.web.ratelimit.RateLimitEngine;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    static final String INJECTED_FAULT = "Injected fault";
+
+    private final RateLimitProperties rateLimitProperties;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
@@ -32,9 +52,15 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     /*
      * This list is modifiable by design for CRUD operations.
+     * With mock.persistence enabled it is restored from disk and only generated when nothing has been persisted yet.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public List<MockEmployee> mockEmployees(
+            Faker faker, EmployeeStore employeeStore, @Value("${mock.employees.max:20}") int maxEmployees) {
+        return employeeStore.open(() -> generateEmployees(faker, maxEmployees));
+    }
+
+    private static List<MockEmployee> generateEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -46,14 +72,54 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        final var mockEmployees = IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
                 .collect(Collectors.toCollection(ArrayList::new));
+        if (log.isTraceEnabled()) {
+            mockEmployees.forEach(mockEmployee -> log.trace("Created employee: {}", mockEmployee));
+        }
+        log.debug("Created {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
+    /*
+     * Opt-in binary representation, served only when the client asks for application/x-jackson-smile.
+     * Property names are back-referenced by default; shared string values also dedupe repeated titles.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileObjectMapper()));
+    }
+
+    static ObjectMapper smileObjectMapper() {
+        final var smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return Jackson2ObjectMapperBuilder.smile().factory(smileFactory).build();
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitProperties.isEnabled()) {
+            registry.addInterceptor(new RequestLimitInterceptor(
+                            RateLimitEngine.from(rateLimitProperties), rateLimitProperties.getClientHeader()))
+                    .excludePathPatterns("/admin/**");
+        }
+    }
+
+    // Always in place so faults can be switched on at runtime; with no routes configured it injects nothing.
+    @Bean
+    public FaultInjector faultInjector(FaultInjectionProperties faultInjectionProperties) {
+        return new FaultInjector(faultInjectionProperties);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjector faultInjector, ObjectMapper objectMapper) throws JsonProcessingException {
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(
+                faultInjector, objectMapper.writeValueAsBytes(Response.error(INJECTED_FAULT))));
+        registration.addUrlPatterns("/api/*");
+        return registration;
     }
 }
@@ -0,0 +1,48 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.faults.FaultInjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reads and replaces the {@code mock.faults} settings while the server runs, so a load test can move between fault
+ * profiles without a restart.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultInjectionController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultInjectionProperties> getFaults() {
+        return Response.handledWith(faultInjector.settings());
+    }
+
+    @PutMapping()
+    public Response<FaultInjectionProperties> replaceFaults(@RequestBody FaultInjectionProperties faults) {
+        faultInjector.configure(faults);
+        return Response.handledWith(faultInjector.settings());
+    }
+
+    @DeleteMapping()
+    public Response<FaultInjectionProperties> clearFaults() {
+        faultInjector.configure(new FaultInjectionProperties());
+        return Response.handledWith(faultInjector.settings());
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<Response<Object>> handleInvalidFaults(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+}
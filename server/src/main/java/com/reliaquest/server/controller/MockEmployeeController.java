@@ -1,12 +1,15 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.ChangeFeed;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -16,7 +19,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,10 +30,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeLog employeeChangeLog;
 
+    // Taken as text so that a malformed shard gets the same 400 as one out of range, rather than a type mismatch.
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(required = false) String shard, @RequestParam(defaultValue = "1") String shards) {
+        if (Objects.isNull(shard)) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.copyOfMockEmployees()));
+        }
+        final int shardIndex;
+        final int shardCount;
+        try {
+            shardIndex = Integer.parseInt(shard);
+            shardCount = Integer.parseInt(shards);
+        } catch (NumberFormatException ex) {
+            return invalidShard();
+        }
+        if (!MockEmployeeService.isValidShard(shardIndex, shardCount)) {
+            return invalidShard();
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.copyOfShard(shardIndex, shardCount)));
+    }
+
+    @GetMapping("/changes")
+    public Response<ChangeFeed> getChanges(
+            @RequestParam(defaultValue = "0") long since, @RequestParam(defaultValue = "1000") int limit) {
+        return Response.handledWith(employeeChangeLog.since(since, limit));
     }
 
     @GetMapping("/{id}")
@@ -40,12 +68,18 @@ public class MockEmployeeController {
     }
 
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.create(input, idempotencyKey));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static <T> ResponseEntity<Response<T>> invalidShard() {
+        return ResponseEntity.badRequest().body(Response.error("shard must be between 0 and shards - 1"));
+    }
 }
@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A page of the change log. {@code resyncRequired} means the requested position is no longer (or not yet) covered by
+ * this stream and the caller has to fetch the full roster again.
+ */
+public record ChangeFeed(UUID streamId, long latestSequence, boolean resyncRequired, List<EmployeeChange> changes) {}
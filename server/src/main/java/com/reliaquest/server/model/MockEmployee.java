@@ -1,12 +1,16 @@
 package com.reliaquest.server.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 
 @Data
 @AllArgsConstructor
@@ -21,6 +25,13 @@ public class MockEmployee {
     private String title;
     private String email;
 
+    // Folded once per employee on first lookup by name; names are never changed after creation.
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(lazy = true)
+    private final String nameKey = NameKey.of(name);
+
     public static MockEmployee from(@NonNull String email, @NonNull CreateMockEmployeeInput input) {
         return MockEmployee.builder()
                 .id(UUID.randomUUID())
@@ -0,0 +1,140 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding shared by the log and the snapshot. Each record is {@code [int length][int crc32c][payload]} with a
+ * payload of {@code [byte type][long idMsb][long idLsb]}, followed for creates by salary, age, name, title and email.
+ * Missing numbers are {@link Integer#MIN_VALUE}; strings are an int byte length ({@code -1} for null) and UTF-8 bytes.
+ * All values are big-endian.
+ */
+final class EmployeeRecords {
+
+    static final byte CREATED = 1;
+    static final byte DELETED = 2;
+
+    private static final int HEADER_BYTES = 8;
+    private static final int ABSENT = Integer.MIN_VALUE;
+
+    private EmployeeRecords() {}
+
+    /** Appends one record, growing the buffer when needed; returns the buffer written to. */
+    static ByteBuffer append(ByteBuffer out, byte type, MockEmployee employee) {
+        byte[] name = type == CREATED ? utf8(employee.getName()) : null;
+        byte[] title = type == CREATED ? utf8(employee.getTitle()) : null;
+        byte[] email = type == CREATED ? utf8(employee.getEmail()) : null;
+        int payloadBytes = 1 + 16 + (type == CREATED ? 8 + length(name) + length(title) + length(email) : 0);
+
+        ByteBuffer target = ensureRemaining(out, HEADER_BYTES + payloadBytes);
+        int start = target.position();
+        target.putInt(payloadBytes).putInt(0);
+        target.put(type);
+        target.putLong(employee.getId().getMostSignificantBits());
+        target.putLong(employee.getId().getLeastSignificantBits());
+        if (type == CREATED) {
+            target.putInt(Objects.isNull(employee.getSalary()) ? ABSENT : employee.getSalary());
+            target.putInt(Objects.isNull(employee.getAge()) ? ABSENT : employee.getAge());
+            putString(target, name);
+            putString(target, title);
+            putString(target, email);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(target.array(), target.arrayOffset() + start + HEADER_BYTES, payloadBytes);
+        target.putInt(start + 4, (int) crc.getValue());
+        return target;
+    }
+
+    /**
+     * Reads the record at {@code position}, or returns {@code null} when the bytes there are not a complete record with
+     * a matching checksum, as happens with a write torn by a crash.
+     */
+    static Decoded read(ByteBuffer in, int position) {
+        if (in.limit() - position < HEADER_BYTES) {
+            return null;
+        }
+        int payloadBytes = in.getInt(position);
+        int payloadStart = position + HEADER_BYTES;
+        if (payloadBytes < 17 || payloadBytes > in.limit() - payloadStart) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(in.slice(payloadStart, payloadBytes));
+        if ((int) crc.getValue() != in.getInt(position + 4)) {
+            return null;
+        }
+
+        byte type = in.get(payloadStart);
+        UUID id = new UUID(in.getLong(payloadStart + 1), in.getLong(payloadStart + 9));
+        int next = payloadStart + payloadBytes;
+        if (type == DELETED) {
+            return new Decoded(type, MockEmployee.builder().id(id).build(), next);
+        }
+
+        int salary = in.getInt(payloadStart + 17);
+        int age = in.getInt(payloadStart + 21);
+        int cursor = payloadStart + 25;
+        String name = getString(in, cursor);
+        cursor += length(in, cursor);
+        String title = getString(in, cursor);
+        cursor += length(in, cursor);
+        String email = getString(in, cursor);
+        return new Decoded(
+                type,
+                MockEmployee.builder()
+                        .id(id)
+                        .name(name)
+                        .salary(salary == ABSENT ? null : salary)
+                        .age(age == ABSENT ? null : age)
+                        .title(title)
+                        .email(email)
+                        .build(),
+                next);
+    }
+
+    record Decoded(byte type, MockEmployee employee, int next) {}
+
+    private static ByteBuffer ensureRemaining(ByteBuffer out, int required) {
+        if (out.remaining() >= required) {
+            return out;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + required));
+        out.flip();
+        return grown.put(out);
+    }
+
+    private static byte[] utf8(String value) {
+        return Objects.isNull(value) ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return 4 + (Objects.isNull(value) ? 0 : value.length);
+    }
+
+    private static int length(ByteBuffer in, int position) {
+        return 4 + Math.max(in.getInt(position), 0);
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (Objects.isNull(value)) {
+            out.putInt(-1);
+            return;
+        }
+        out.putInt(value.length).put(value);
+    }
+
+    private static String getString(ByteBuffer in, int position) {
+        int length = in.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
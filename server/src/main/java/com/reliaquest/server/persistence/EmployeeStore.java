@@ -0,0 +1,356 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional write-behind persistence for the mock roster. Creates and deletes are queued by the request thread and
+ * appended to {@code employees.wal} by a single writer thread, which commits whatever has queued up with one write and
+ * one sync. Once {@code compactAfter} records have been logged, the writer folds them into a new
+ * {@code employees.snapshot} and truncates the log. On start the snapshot and the log are replayed through
+ * memory-mapped reads; a torn record at the end of the log is discarded.
+ *
+ * <p>Replaying the whole log over a snapshot that already contains part of it yields the same roster, because creates
+ * and deletes are keyed by id. That is what makes a crash between writing a snapshot and replacing the log harmless.
+ * A new log is written aside and moved into place, so the log on disk always has its header; one cut shorter than
+ * that by other means is replayed as empty.
+ *
+ * <p>Being write-behind, changes acknowledged in the last group commit window can be lost if the process dies; a
+ * regular shutdown drains the queue first.
+ */
+@Slf4j
+@Component
+public class EmployeeStore {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+    static final String LOG_FILE = "employees.wal";
+
+    private static final int SNAPSHOT_MAGIC = 0x524d4553; // "RMES"
+    private static final int LOG_MAGIC = 0x524d454c; // "RMEL"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 12;
+    private static final int SNAPSHOT_CHUNK_BYTES = 1 << 20;
+
+    private final PersistenceProperties properties;
+    private final BlockingQueue<Pending> queue;
+    private final AtomicLong submitted = new AtomicLong();
+    private final Object commitMonitor = new Object();
+
+    // Owned by the writer thread once started.
+    private final Map<UUID, MockEmployee> roster = new LinkedHashMap<>();
+    private FileChannel logChannel;
+    private long loggedSinceSnapshot;
+
+    private Thread writer;
+    private volatile boolean running;
+    private volatile IOException failure;
+    private long committed;
+
+    public EmployeeStore(PersistenceProperties properties) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1));
+    }
+
+    /**
+     * Roster to serve: the persisted one when there is one, otherwise {@code generator}'s, which is then saved as the
+     * first snapshot. With persistence disabled this is just {@code generator}'s roster.
+     */
+    public List<MockEmployee> open(Supplier<List<MockEmployee>> generator) {
+        if (!properties.isEnabled()) {
+            return generator.get();
+        }
+
+        Path directory = properties.getDirectory();
+        try {
+            Files.createDirectories(directory);
+            long start = System.nanoTime();
+            boolean recovered = replaySnapshot(directory.resolve(SNAPSHOT_FILE));
+            long replayed = replayLog(directory.resolve(LOG_FILE));
+            if (recovered || Objects.nonNull(logChannel)) {
+                if (Objects.isNull(logChannel)) {
+                    startLog();
+                }
+                log.info(
+                        "Recovered {} employees ({} log records) from {} in {} ms",
+                        roster.size(),
+                        replayed,
+                        directory,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } else {
+                generator.get().forEach(employee -> roster.put(employee.getId(), employee));
+                compact();
+                log.info("Persisting a new roster of {} employees to {}", roster.size(), directory);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to open employee store in " + directory, ex);
+        }
+
+        running = true;
+        writer = new Thread(this::drain, "employee-store-writer");
+        writer.setDaemon(true);
+        writer.start();
+        return new ArrayList<>(roster.values());
+    }
+
+    public void created(MockEmployee employee) {
+        submit(new Pending(EmployeeRecords.CREATED, employee));
+    }
+
+    public void deleted(MockEmployee employee) {
+        submit(new Pending(EmployeeRecords.DELETED, employee));
+    }
+
+    /** Waits until everything submitted so far is committed to the log. */
+    public void flush() {
+        if (!running) {
+            return;
+        }
+        long target = submitted.get();
+        synchronized (commitMonitor) {
+            while (committed < target && writer.isAlive()) {
+                try {
+                    commitMonitor.wait(100);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            throw new UncheckedIOException("Employee store stopped persisting", failure);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+            logChannel.close();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            log.warn("Unable to close {}", LOG_FILE, ex);
+        }
+    }
+
+    private void submit(Pending pending) {
+        if (!running) {
+            return;
+        }
+        try {
+            queue.put(pending);
+            submitted.incrementAndGet();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(properties.getMaxBatch());
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first)) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getMaxBatch() - 1);
+                if (Objects.isNull(failure)) {
+                    buffer = commit(batch, buffer);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException ex) {
+                // Keep draining so request threads never block on a full queue; flush() reports the failure.
+                failure = ex;
+                log.error("Employee store stopped persisting after a failed write to {}", LOG_FILE, ex);
+            }
+            synchronized (commitMonitor) {
+                committed += batch.size();
+                commitMonitor.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private ByteBuffer commit(List<Pending> batch, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        for (Pending pending : batch) {
+            buffer = EmployeeRecords.append(buffer, pending.type(), pending.employee());
+            if (pending.type() == EmployeeRecords.CREATED) {
+                roster.put(pending.employee().getId(), pending.employee());
+            } else {
+                roster.remove(pending.employee().getId());
+            }
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            logChannel.write(buffer);
+        }
+        if (properties.isFsync()) {
+            logChannel.force(false);
+        }
+
+        loggedSinceSnapshot += batch.size();
+        if (loggedSinceSnapshot >= properties.getCompactAfter()) {
+            compact();
+        }
+        return buffer;
+    }
+
+    private boolean replaySnapshot(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        MappedByteBuffer snapshot = map(file, SNAPSHOT_MAGIC);
+        int count = snapshot.getInt(8);
+        int position = FILE_HEADER_BYTES;
+        for (int i = 0; i < count; i++) {
+            EmployeeRecords.Decoded decoded = EmployeeRecords.read(snapshot, position);
+            if (Objects.isNull(decoded)) {
+                throw new IOException("Corrupt record " + i + " of " + count + " in " + file);
+            }
+            roster.put(decoded.employee().getId(), decoded.employee());
+            position = decoded.next();
+        }
+        return true;
+    }
+
+    private long replayLog(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        if (Files.size(file) < FILE_HEADER_BYTES) {
+            log.warn("Ignoring {} bytes of {}, shorter than its header", Files.size(file), file);
+            return 0;
+        }
+        MappedByteBuffer records = map(file, LOG_MAGIC);
+        long replayed = 0;
+        int position = FILE_HEADER_BYTES;
+        EmployeeRecords.Decoded decoded;
+        while (Objects.nonNull(decoded = EmployeeRecords.read(records, position))) {
+            if (decoded.type() == EmployeeRecords.CREATED) {
+                roster.put(decoded.employee().getId(), decoded.employee());
+            } else {
+                roster.remove(decoded.employee().getId());
+            }
+            position = decoded.next();
+            replayed++;
+        }
+        if (position < records.limit()) {
+            log.warn("Discarding {} bytes of incomplete records at the end of {}", records.limit() - position, file);
+        }
+
+        logChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+        logChannel.truncate(position);
+        logChannel.position(position);
+        loggedSinceSnapshot = replayed;
+        return replayed;
+    }
+
+    private static MappedByteBuffer map(Path file, int magic) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FILE_HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected size " + size + " for " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != magic || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a version " + VERSION + " employee store file: " + file);
+            }
+            return buffer;
+        }
+    }
+
+    /** Writes the roster as a new snapshot, moves it into place atomically and starts an empty log. */
+    private void compact() throws IOException {
+        Path directory = properties.getDirectory();
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        Path temporaryFile = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_CHUNK_BYTES);
+            buffer.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putInt(roster.size());
+            for (MockEmployee employee : roster.values()) {
+                buffer = EmployeeRecords.append(buffer, EmployeeRecords.CREATED, employee);
+                if (buffer.position() >= SNAPSHOT_CHUNK_BYTES) {
+                    writeFully(channel, buffer);
+                }
+            }
+            writeFully(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        startLog();
+        log.debug("Compacted {} employees into {}", roster.size(), snapshotFile);
+    }
+
+    // Never leaves a log without its header behind: the empty log is written aside, synced and then moved into place.
+    private void startLog() throws IOException {
+        Path directory = properties.getDirectory();
+        Path logFile = directory.resolve(LOG_FILE);
+        Path temporaryFile = directory.resolve(LOG_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            // The third header int is reserved; log records are simply read until the first incomplete one.
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES)
+                    .putInt(LOG_MAGIC)
+                    .putInt(VERSION)
+                    .putInt(0);
+            writeFully(channel, header);
+            channel.force(true);
+        }
+        if (Objects.nonNull(logChannel)) {
+            logChannel.close();
+        }
+        Files.move(temporaryFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logChannel = FileChannel.open(logFile, StandardOpenOption.WRITE);
+        logChannel.position(FILE_HEADER_BYTES);
+        loggedSinceSnapshot = 0;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private record Pending(byte type, MockEmployee employee) {}
+}
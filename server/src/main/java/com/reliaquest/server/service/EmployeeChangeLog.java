@@ -0,0 +1,52 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.ChangeFeed;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only log of roster mutations. Sequence numbers start at 1 and increase by one per change; the most recent
+ * {@code mock.changes.retention} entries are kept in a ring buffer. The stream id changes on every boot, so followers
+ * can tell a restarted server from one that simply has not changed.
+ */
+@Component
+public class EmployeeChangeLog {
+
+    private final UUID streamId = UUID.randomUUID();
+    private final EmployeeChange[] ring;
+    private long latestSequence;
+
+    public EmployeeChangeLog(@Value("${mock.changes.retention:10000}") int retention) {
+        this.ring = new EmployeeChange[Math.max(retention, 1)];
+    }
+
+    public synchronized EmployeeChange append(EmployeeChange.Type type, MockEmployee employee) {
+        final var change = new EmployeeChange(++latestSequence, type, employee);
+        ring[slot(change.sequence())] = change;
+        return change;
+    }
+
+    public synchronized ChangeFeed since(long since, int limit) {
+        final long oldestRetained = Math.max(1, latestSequence - ring.length + 1);
+        final boolean resyncRequired = since > latestSequence || since < oldestRetained - 1;
+        if (resyncRequired || limit <= 0) {
+            return new ChangeFeed(streamId, latestSequence, resyncRequired, List.of());
+        }
+
+        final long last = Math.min(latestSequence, since + limit);
+        final List<EmployeeChange> changes = new ArrayList<>((int) (last - since));
+        for (long sequence = since + 1; sequence <= last; sequence++) {
+            changes.add(ring[slot(sequence)]);
+        }
+        return new ChangeFeed(streamId, latestSequence, false, changes);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
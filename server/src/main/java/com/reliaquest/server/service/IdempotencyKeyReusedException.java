@@ -0,0 +1,9 @@
+package com.reliaquest.server.service;
+
+/** An {@code Idempotency-Key} sent again with a different employee than the one it created. */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used for a different employee");
+    }
+}
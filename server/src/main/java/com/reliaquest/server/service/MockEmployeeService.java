@@ -1,14 +1,21 @@
 package com.reliaquest.server.service;
 
+import com.reliaquest.server.config.IdempotencyProperties;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.NameKey;
+import com.reliaquest.server.persistence.EmployeeStore;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.function.LongSupplier;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,38 +28,114 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final EmployeeChangeLog employeeChangeLog;
+    private final EmployeeStore employeeStore;
+    private final IdempotencyProperties idempotencyProperties;
 
-    @Getter
+    // Insertion order is creation order, so expired keys are always at the head.
+    private final Map<String, IdempotentCreate> createsByKey = new LinkedHashMap<>();
+
+    // Ages idempotency keys; replaced only by tests.
+    LongSupplier nanoClock = System::nanoTime;
+
+    // Guarded by this; handed out only as copies.
     private final List<MockEmployee> mockEmployees;
 
-    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+    /** Point-in-time copy, safe to stream while creates and deletes continue. */
+    public synchronized List<MockEmployee> copyOfMockEmployees() {
+        return List.copyOf(mockEmployees);
+    }
+
+    /** Point-in-time copy of the employees in shard {@code shard} of {@code shards} equal ranges of the id space. */
+    public synchronized List<MockEmployee> copyOfShard(int shard, int shards) {
+        if (!isValidShard(shard, shards)) {
+            throw new IllegalArgumentException("shard must be between 0 and shards - 1");
+        }
+        return mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
+                        && shardOf(mockEmployee.getId(), shards) == shard)
+                .toList();
+    }
+
+    public static boolean isValidShard(int shard, int shards) {
+        return shards > 0 && shard >= 0 && shard < shards;
+    }
+
+    // Ranges over the top 32 bits of the id, so each shard is one contiguous slice of ids.
+    static int shardOf(UUID id, int shards) {
+        return (int) (((id.getMostSignificantBits() >>> 32) * shards) >>> 32);
+    }
+
+    public synchronized Optional<MockEmployee> findById(@NonNull UUID uuid) {
         return mockEmployees.stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
                         && mockEmployee.getId().equals(uuid))
                 .findFirst();
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
         mockEmployees.add(mockEmployee);
-        log.debug("Added employee: {}", mockEmployee);
+        employeeChangeLog.append(EmployeeChange.Type.CREATED, mockEmployee);
+        employeeStore.created(mockEmployee);
+        log.debug("Added employee: id={}, name={}", mockEmployee.getId(), mockEmployee.getName());
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+    /**
+     * Creates the employee, unless {@code idempotencyKey} already created one within {@code mock.idempotency.ttl}: then
+     * that employee is returned again, even if it has since been deleted. A null key always creates.
+     */
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
+        if (Objects.isNull(idempotencyKey)) {
+            return create(input);
+        }
+
+        forgetExpiredKeys();
+        final var previous = createsByKey.get(idempotencyKey);
+        if (Objects.nonNull(previous)) {
+            if (!previous.input().equals(input)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+            log.debug("Replayed create: idempotencyKey={}, id={}", idempotencyKey, previous.mockEmployee().getId());
+            return previous.mockEmployee();
+        }
+
+        final var mockEmployee = create(input);
+        createsByKey.put(idempotencyKey, new IdempotentCreate(input, mockEmployee, nanoClock.getAsLong()));
+        if (createsByKey.size() > idempotencyProperties.getMaxKeys()) {
+            createsByKey.remove(createsByKey.keySet().iterator().next());
+        }
+        return mockEmployee;
+    }
+
+    private void forgetExpiredKeys() {
+        final long ttlNanos = idempotencyProperties.getTtl().toNanos();
+        final long now = nanoClock.getAsLong();
+        final Iterator<IdempotentCreate> creates = createsByKey.values().iterator();
+        while (creates.hasNext() && now - creates.next().createdNanos() > ttlNanos) {
+            creates.remove();
+        }
+    }
+
+    public synchronized boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var nameKey = NameKey.of(input.getName());
         final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
+                .filter(employee -> nameKey.equals(employee.getNameKey()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
             mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
+            employeeChangeLog.append(EmployeeChange.Type.DELETED, mockEmployee.get());
+            employeeStore.deleted(mockEmployee.get());
+            log.debug("Removed employee: id={}, name={}", mockEmployee.get().getId(), mockEmployee.get().getName());
             return true;
         }
 
         return false;
     }
+
+    private record IdempotentCreate(CreateMockEmployeeInput input, MockEmployee mockEmployee, long createdNanos) {}
 }
@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.web.faults.FaultInjector;
+import com.reliaquest.server.web.faults.FaultPlan;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Applies {@link FaultInjector}'s plans around the controllers. Drops and slow drips buffer the controller's response
+ * first, then send it with its full {@code Content-Length} but only part of the body, or a chunk at a time.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjector faultInjector;
+    private final byte[] errorBody;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final FaultPlan plan = faultInjector.plan(request.getMethod(), request.getRequestURI());
+        if (plan == FaultPlan.NONE) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!sleep(plan.delayNanos())) {
+            return;
+        }
+        if (plan.error()) {
+            response.setStatus(plan.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(errorBody.length);
+            response.getOutputStream().write(errorBody);
+            return;
+        }
+        if (!plan.rewritesBody()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final var buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        final byte[] body = buffered.getContentAsByteArray();
+        response.setContentLength(body.length);
+        final var out = response.getOutputStream();
+        if (plan.drop()) {
+            // Tomcat closes the connection after this response, leaving the client short of the declared length.
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            out.write(body, 0, body.length / 2);
+            out.flush();
+            return;
+        }
+        for (int offset = 0; offset < body.length; offset += plan.dripBytes()) {
+            if (offset > 0 && !sleep(plan.dripIntervalNanos())) {
+                return;
+            }
+            out.write(body, offset, Math.min(plan.dripBytes(), body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.web.faults.FaultInjector;
+import com.reliaquest.server.web.faults.FaultPlan;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+/**
+ * {@link FaultInjectionFilter} for the reactive runtime. Delays are timers rather than sleeps, so they hold no event
+ * loop thread; drops close the Netty channel once half of the body is written.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter {
+
+    private final FaultInjector faultInjector;
+    private final byte[] errorBody;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final String path = request.getPath().value();
+        if (!path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        final FaultPlan plan = faultInjector.plan(request.getMethod().name(), path);
+        if (plan == FaultPlan.NONE) {
+            return chain.filter(exchange);
+        }
+        final Mono<Void> faulted = Mono.defer(() -> inject(plan, exchange, chain));
+        return plan.delayNanos() > 0 ? Mono.delay(Duration.ofNanos(plan.delayNanos())).then(faulted) : faulted;
+    }
+
+    private Mono<Void> inject(FaultPlan plan, ServerWebExchange exchange, WebFilterChain chain) {
+        final var response = exchange.getResponse();
+        if (plan.error()) {
+            response.setStatusCode(HttpStatusCode.valueOf(plan.errorStatus()));
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setContentLength(errorBody.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(errorBody)));
+        }
+        if (!plan.rewritesBody()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new FaultedResponse(response, plan)).build());
+    }
+
+    /** Buffers the body written by the handler, then sends it as the plan says. */
+    private static class FaultedResponse extends ServerHttpResponseDecorator {
+
+        private final FaultPlan plan;
+
+        FaultedResponse(ServerHttpResponse delegate, FaultPlan plan) {
+            super(delegate);
+            this.plan = plan;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                final byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                getHeaders().setContentLength(bytes.length);
+                return plan.drop() ? drop(bytes) : drip(bytes);
+            });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        private Mono<Void> drop(byte[] bytes) {
+            getHeaders().set(HttpHeaders.CONNECTION, "close");
+            final Mono<Void> half = super.writeWith(Mono.just(chunk(bytes, 0, bytes.length / 2)));
+            if (getNativeResponse(getDelegate()) instanceof Connection connection) {
+                return half.then(Mono.fromRunnable(() -> connection.channel().close()));
+            }
+            return half;
+        }
+
+        private Mono<Void> drip(byte[] bytes) {
+            final int chunks = (bytes.length + plan.dripBytes() - 1) / plan.dripBytes();
+            final var interval = Duration.ofNanos(plan.dripIntervalNanos());
+            return super.writeAndFlushWith(Flux.range(0, chunks)
+                    .delayUntil(index -> index > 0 ? Mono.delay(interval) : Mono.empty())
+                    .map(index -> Mono.just(chunk(bytes, index * plan.dripBytes(), plan.dripBytes()))));
+        }
+
+        private DataBuffer chunk(byte[] bytes, int offset, int length) {
+            return bufferFactory().wrap(ByteBuffer.wrap(bytes, offset, Math.min(length, bytes.length - offset)));
+        }
+    }
+}
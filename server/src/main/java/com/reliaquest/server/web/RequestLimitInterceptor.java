@@ -0,0 +1,28 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.web.ratelimit.RateLimitEngine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitEngine rateLimitEngine;
+    private final String clientHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final String client = request.getHeader(clientHeader);
+        final var decision = rateLimitEngine.check(
+                request.getMethod(), request.getRequestURI(), client != null ? client : request.getRemoteAddr());
+        decision.headers().forEach(response::setHeader);
+        if (!decision.allowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.web.ratelimit.RateLimitEngine;
+import java.net.InetSocketAddress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RequestLimitInterceptor} for the reactive runtime.
+ */
+@RequiredArgsConstructor
+public class RequestLimitWebFilter implements WebFilter {
+
+    private final RateLimitEngine rateLimitEngine;
+    private final String clientHeader;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        if (request.getPath().value().startsWith("/admin/")) {
+            return chain.filter(exchange);
+        }
+        final var response = exchange.getResponse();
+        final String client = request.getHeaders().getFirst(clientHeader);
+        final var decision = rateLimitEngine.check(
+                request.getMethod().name(),
+                request.getPath().value(),
+                client != null ? client : remoteAddress(request));
+        decision.headers().forEach(response.getHeaders()::set);
+        if (!decision.allowed()) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return response.setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        final InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
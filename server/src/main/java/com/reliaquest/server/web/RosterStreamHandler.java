@@ -0,0 +1,100 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Streams {@code GET /api/v1/employee}, or one id-range shard of it, as JSON for the reactive runtime. The response
+ * has the same {@code {"data": [...], "status": ...}} shape as the annotated controller's, but employees are encoded a
+ * chunk at a time as the connection asks for more, so a large roster is never rendered into one buffer.
+ */
+public class RosterStreamHandler {
+
+    private static final int CHUNK_SIZE = 512;
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectWriter employeeWriter;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    public RosterStreamHandler(MockEmployeeService mockEmployeeService, ObjectMapper objectMapper) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.employeeWriter =
+                objectMapper.writerFor(MockEmployee.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            final String status = objectMapper.writeValueAsString(Response.Status.HANDLED);
+            this.prefix = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+            this.suffix = ("],\"status\":" + status + "}").getBytes(StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Mono<ServerResponse> getEmployees(ServerRequest request) {
+        final Optional<Integer> shard;
+        final int shards;
+        try {
+            shard = request.queryParam("shard").map(Integer::valueOf);
+            shards = request.queryParam("shards").map(Integer::parseInt).orElse(1);
+        } catch (NumberFormatException ex) {
+            return invalidShard();
+        }
+        if (shard.isPresent() && !MockEmployeeService.isValidShard(shard.get(), shards)) {
+            return invalidShard();
+        }
+        final List<MockEmployee> employees = shard.isPresent()
+                ? mockEmployeeService.copyOfShard(shard.get(), shards)
+                : mockEmployeeService.copyOfMockEmployees();
+        final DataBufferFactory bufferFactory = request.exchange().getResponse().bufferFactory();
+        final int chunks = (employees.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final Flux<DataBuffer> body = Flux.concat(
+                Mono.fromSupplier(() -> bufferFactory.wrap(prefix)),
+                Flux.range(0, chunks).map(chunk -> encode(bufferFactory, employees, chunk)),
+                Mono.fromSupplier(() -> bufferFactory.wrap(suffix)));
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromDataBuffers(body));
+    }
+
+    private static Mono<ServerResponse> invalidShard() {
+        return ServerResponse.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Response.error("shard must be between 0 and shards - 1"));
+    }
+
+    private DataBuffer encode(DataBufferFactory bufferFactory, List<MockEmployee> employees, int chunk) {
+        final int from = chunk * CHUNK_SIZE;
+        final int to = Math.min(from + CHUNK_SIZE, employees.size());
+        // Roughly 128 bytes per employee; the buffer grows if needed.
+        final DataBuffer buffer = bufferFactory.allocateBuffer((to - from) * 128);
+        try (OutputStream out = buffer.asOutputStream()) {
+            for (int i = from; i < to; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                employeeWriter.writeValue(out, employees.get(i));
+            }
+        } catch (IOException ex) {
+            DataBufferUtils.release(buffer);
+            throw new UncheckedIOException(ex);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.server.web.faults;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.Latency;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Resolves {@code mock.faults} into route rules and draws a {@link FaultPlan} per request. Settings can be swapped at
+ * any time; requests already in flight keep the plan they drew. Draws come from one seeded generator, so a given seed
+ * and request order reproduce the same faults. Like the rate limiter it knows nothing about the web stack.
+ */
+@Slf4j
+public class FaultInjector {
+
+    private volatile Rules rules;
+
+    public FaultInjector(FaultInjectionProperties properties) {
+        configure(properties);
+    }
+
+    public void configure(FaultInjectionProperties properties) {
+        final long seed = properties.getSeed() != null
+                ? properties.getSeed()
+                : ThreadLocalRandom.current().nextLong();
+        final var routes = new ArrayList<FaultRoute>();
+        for (final var route : properties.getRoutes()) {
+            validate(route);
+            final var pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            routes.add(new FaultRoute(route.getMethod(), pattern, route));
+        }
+        rules = new Rules(properties, List.copyOf(routes), new Random(seed));
+
+        if (routes.isEmpty()) {
+            log.info("Fault injection off");
+        } else {
+            routes.forEach(route -> log.info("Injecting faults with seed {}: {}", seed, route.route()));
+        }
+    }
+
+    public FaultInjectionProperties settings() {
+        return rules.properties();
+    }
+
+    public FaultPlan plan(String method, String path) {
+        final var current = rules;
+        if (current.routes().isEmpty()) {
+            return FaultPlan.NONE;
+        }
+        final var pathContainer = PathContainer.parsePath(path);
+        for (final var route : current.routes()) {
+            if (route.matches(method, pathContainer)) {
+                return draw(route.route(), current.random());
+            }
+        }
+        return FaultPlan.NONE;
+    }
+
+    private static FaultPlan draw(FaultInjectionProperties.Route route, Random random) {
+        final long delayNanos = route.getLatency() != null ? sampleNanos(route.getLatency(), random) : 0;
+        if (random.nextDouble() < route.getErrorRate()) {
+            return new FaultPlan(delayNanos, route.getErrorStatus(), false, 0, 0);
+        }
+        if (random.nextDouble() < route.getDropRate()) {
+            return new FaultPlan(delayNanos, 0, true, 0, 0);
+        }
+        if (random.nextDouble() < route.getSlowDripRate()) {
+            return new FaultPlan(delayNanos, 0, false, route.getDripBytes(), route.getDripInterval().toNanos());
+        }
+        return delayNanos > 0 ? new FaultPlan(delayNanos, 0, false, 0, 0) : FaultPlan.NONE;
+    }
+
+    static long sampleNanos(Latency latency, Random random) {
+        final double delay = latency.getDelay().toNanos();
+        // PARETO by inverse transform; 1 - nextDouble() keeps the base in (0, 1].
+        final double sampled =
+                switch (latency.getDistribution()) {
+                    case FIXED -> delay;
+                    case NORMAL -> delay + random.nextGaussian() * latency.getStddev().toNanos();
+                    case PARETO -> delay / Math.pow(1.0 - random.nextDouble(), 1.0 / latency.getShape());
+                };
+        return (long) Math.min(Math.max(sampled, 0), latency.getMax().toNanos());
+    }
+
+    private static void validate(FaultInjectionProperties.Route route) {
+        if (route.getPath() == null) {
+            throw new IllegalArgumentException("Fault route without a path");
+        }
+        checkRate("errorRate", route.getErrorRate());
+        checkRate("dropRate", route.getDropRate());
+        checkRate("slowDripRate", route.getSlowDripRate());
+        if (route.getErrorStatus() < 400 || route.getErrorStatus() > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status: " + route.getErrorStatus());
+        }
+        if (route.getDripBytes() < 1 || isUnsetOrNegative(route.getDripInterval())) {
+            throw new IllegalArgumentException("dripBytes must be positive and dripInterval not negative");
+        }
+        final var latency = route.getLatency();
+        if (latency != null
+                && (latency.getDistribution() == null
+                        || isUnsetOrNegative(latency.getDelay())
+                        || isUnsetOrNegative(latency.getStddev())
+                        || isUnsetOrNegative(latency.getMax())
+                        || !(latency.getShape() > 0))) {
+            throw new IllegalArgumentException("Invalid latency for " + route.getPath() + ": " + latency);
+        }
+    }
+
+    private static void checkRate(String name, double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1: " + rate);
+        }
+    }
+
+    private static boolean isUnsetOrNegative(Duration duration) {
+        return duration == null || duration.isNegative();
+    }
+
+    private record Rules(FaultInjectionProperties properties, List<FaultRoute> routes, Random random) {}
+
+    private record FaultRoute(String method, PathPattern pattern, FaultInjectionProperties.Route route) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
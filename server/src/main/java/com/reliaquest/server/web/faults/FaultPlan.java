@@ -0,0 +1,22 @@
+package com.reliaquest.server.web.faults;
+
+/**
+ * Faults drawn for one request: a delay before it is handled, then at most one of an error status in place of the
+ * controller, a connection dropped halfway through the body, or a body dripped out in small chunks.
+ */
+public record FaultPlan(long delayNanos, int errorStatus, boolean drop, int dripBytes, long dripIntervalNanos) {
+
+    public static final FaultPlan NONE = new FaultPlan(0, 0, false, 0, 0);
+
+    public boolean error() {
+        return errorStatus > 0;
+    }
+
+    public boolean slowDrip() {
+        return dripBytes > 0;
+    }
+
+    public boolean rewritesBody() {
+        return drop || slowDrip();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.web.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Counts requests in consecutive windows aligned to the limiter's creation; the count resets at each boundary. */
+final class FixedWindowRateLimiter implements RateLimiter {
+
+    private final RateLimitPolicy policy;
+    private final long windowNanos;
+    private final AtomicReference<Window> window;
+
+    FixedWindowRateLimiter(RateLimitPolicy policy, long nowNanos) {
+        this.policy = policy;
+        this.windowNanos = policy.window().toNanos();
+        this.window = new AtomicReference<>(new Window(nowNanos, 0));
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = window.get();
+            final long elapsed = nowNanos - current.start();
+            final var base = elapsed >= windowNanos ? new Window(nowNanos - elapsed % windowNanos, 0) : current;
+            final long resetNanos = base.start() + windowNanos - nowNanos;
+            if (base.count() >= policy.limit()) {
+                return RateLimitDecision.denied(policy, resetNanos, resetNanos);
+            }
+            final var next = new Window(base.start(), base.count() + 1);
+            if (window.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(policy, policy.limit() - next.count(), resetNanos);
+            }
+        }
+    }
+
+    private record Window(long start, int count) {}
+}
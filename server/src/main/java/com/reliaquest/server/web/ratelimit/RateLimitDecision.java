@@ -0,0 +1,39 @@
+package com.reliaquest.server.web.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one request against its policy. {@code resetNanos} is how long until the budget is fully restored and
+ * {@code retryAfterNanos} how long until the next request would be admitted (zero when this one was).
+ */
+public record RateLimitDecision(
+        boolean allowed, RateLimitPolicy policy, long remaining, long resetNanos, long retryAfterNanos) {
+
+    static RateLimitDecision allowed(RateLimitPolicy policy, long remaining, long resetNanos) {
+        return new RateLimitDecision(true, policy, remaining, resetNanos, 0);
+    }
+
+    static RateLimitDecision denied(RateLimitPolicy policy, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, policy, 0, resetNanos, retryAfterNanos);
+    }
+
+    /** {@code RateLimit-*} headers (IETF httpapi draft) plus {@code Retry-After} on rejection, in whole seconds. */
+    public Map<String, String> headers() {
+        final var headers = new LinkedHashMap<String, String>();
+        headers.put("RateLimit-Limit", Integer.toString(policy.limit()));
+        headers.put("RateLimit-Remaining", Long.toString(remaining));
+        headers.put("RateLimit-Reset", Long.toString(seconds(resetNanos)));
+        headers.put("RateLimit-Policy", policy.describe());
+        if (!allowed) {
+            headers.put("Retry-After", Long.toString(Math.max(seconds(retryAfterNanos), 1)));
+        }
+        return headers;
+    }
+
+    private static long seconds(long nanos) {
+        final long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(0, (nanos + second - 1) / second);
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.server.web.ratelimit;
+
+import com.reliaquest.server.config.RateLimitProperties;
+import com.reliaquest.server.config.RateLimitProperties.Algorithm;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Resolves {@code mock.rate-limit} into concrete policies once, then admits or rejects requests against them. It knows
+ * nothing about the servlet API so any web stack can put it in front of the controllers.
+ *
+ * <p>A limiter untouched for two of its windows has its whole budget back, just like a new one, so it is dropped once
+ * {@code maxClients} limiters exist. If none can be dropped, clients without a limiter share one overflow limiter per
+ * policy.
+ */
+@Slf4j
+public class RateLimitEngine {
+
+    private static final String OVERFLOW_CLIENT = "|*";
+
+    private final RateLimitPolicy defaultPolicy;
+    private final List<RoutePolicy> routes;
+    private final boolean perClient;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final Map<String, TrackedLimiter> limiters = new ConcurrentHashMap<>();
+    // Idle limiters are looked for at most once per shortest window, however many new clients arrive meanwhile.
+    private final long sweepIntervalNanos;
+    private final AtomicLong nextSweepNanos;
+
+    RateLimitEngine(
+            RateLimitPolicy defaultPolicy,
+            List<RoutePolicy> routes,
+            boolean perClient,
+            int maxClients,
+            LongSupplier nanoClock) {
+        this.defaultPolicy = defaultPolicy;
+        this.routes = List.copyOf(routes);
+        this.perClient = perClient;
+        this.maxClients = Math.max(maxClients, 1);
+        this.nanoClock = nanoClock;
+        this.sweepIntervalNanos = routes.stream()
+                .mapToLong(route -> route.policy().window().toNanos())
+                .reduce(defaultPolicy.window().toNanos(), Math::min);
+        this.nextSweepNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public static RateLimitEngine from(RateLimitProperties properties) {
+        final long seed = properties.getSeed() != null
+                ? properties.getSeed()
+                : ThreadLocalRandom.current().nextLong();
+        final var random = new SplittableRandom(seed);
+        final var defaults = properties.getDefaults();
+        final var defaultPolicy = new RateLimitPolicy(
+                "default",
+                Objects.requireNonNullElse(defaults.getAlgorithm(), Algorithm.FIXED_WINDOW),
+                defaults.getLimit() != null ? defaults.getLimit() : randomLimit(properties.getRandom(), random),
+                defaults.getWindow() != null ? defaults.getWindow() : randomWindow(properties.getRandom(), random));
+
+        final var routes = new ArrayList<RoutePolicy>();
+        for (final var route : properties.getRoutes()) {
+            final var policy = new RateLimitPolicy(
+                    (route.getMethod() != null ? route.getMethod().toUpperCase() + " " : "") + route.getPath(),
+                    Objects.requireNonNullElse(route.getAlgorithm(), defaultPolicy.algorithm()),
+                    Objects.requireNonNullElse(route.getLimit(), defaultPolicy.limit()),
+                    Objects.requireNonNullElse(route.getWindow(), defaultPolicy.window()));
+            final var pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            routes.add(new RoutePolicy(route.getMethod(), pattern, policy));
+        }
+
+        log.info(
+                "Rate limiting with seed {}{}: {} {} {}",
+                seed,
+                properties.isPerClient() ? " per client" : "",
+                defaultPolicy.name(),
+                defaultPolicy.algorithm(),
+                defaultPolicy.describe());
+        routes.forEach(route -> log.info(
+                "Rate limiting {} {} {}",
+                route.policy().name(),
+                route.policy().algorithm(),
+                route.policy().describe()));
+        return new RateLimitEngine(
+                defaultPolicy, routes, properties.isPerClient(), properties.getMaxClients(), System::nanoTime);
+    }
+
+    public RateLimitDecision check(String method, String path, String clientKey) {
+        final var policy = policyFor(method, path);
+        final long now = nanoClock.getAsLong();
+        String key = perClient ? policy.name() + '|' + clientKey : policy.name();
+        if (!limiters.containsKey(key) && limiters.size() >= maxClients) {
+            dropIdleLimiters(now);
+            if (limiters.size() >= maxClients) {
+                key = policy.name() + OVERFLOW_CLIENT;
+            }
+        }
+        return limiters.computeIfAbsent(key, ignored -> new TrackedLimiter(policy, now)).tryAcquire(now);
+    }
+
+    int limiterCount() {
+        return limiters.size();
+    }
+
+    private void dropIdleLimiters(long now) {
+        final long next = nextSweepNanos.get();
+        if (now - next < 0 || !nextSweepNanos.compareAndSet(next, now + sweepIntervalNanos)) {
+            return;
+        }
+        final int before = limiters.size();
+        limiters.values().removeIf(limiter -> limiter.isIdle(now));
+        log.debug("Dropped {} idle rate limiters", before - limiters.size());
+    }
+
+    private RateLimitPolicy policyFor(String method, String path) {
+        if (routes.isEmpty()) {
+            return defaultPolicy;
+        }
+        final var pathContainer = PathContainer.parsePath(path);
+        for (final var route : routes) {
+            if (route.matches(method, pathContainer)) {
+                return route.policy();
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private static int randomLimit(RateLimitProperties.Random profile, SplittableRandom random) {
+        return random.nextInt(profile.getMinLimit(), profile.getMaxLimit());
+    }
+
+    private static Duration randomWindow(RateLimitProperties.Random profile, SplittableRandom random) {
+        return Duration.ofMillis(random.nextLong(
+                profile.getMinWindow().toMillis(), profile.getMaxWindow().toMillis()));
+    }
+
+    private static final class TrackedLimiter {
+
+        private final RateLimiter limiter;
+        private final long idleNanos;
+        private volatile long lastUsedNanos;
+
+        TrackedLimiter(RateLimitPolicy policy, long nowNanos) {
+            this.limiter = policy.newLimiter(nowNanos);
+            this.idleNanos = 2 * policy.window().toNanos();
+            this.lastUsedNanos = nowNanos;
+        }
+
+        RateLimitDecision tryAcquire(long nowNanos) {
+            lastUsedNanos = nowNanos;
+            return limiter.tryAcquire(nowNanos);
+        }
+
+        boolean isIdle(long nowNanos) {
+            return nowNanos - lastUsedNanos >= idleNanos;
+        }
+    }
+
+    record RoutePolicy(String method, PathPattern pattern, RateLimitPolicy policy) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
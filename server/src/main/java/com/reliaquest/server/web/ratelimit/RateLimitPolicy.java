@@ -0,0 +1,20 @@
+package com.reliaquest.server.web.ratelimit;
+
+import com.reliaquest.server.config.RateLimitProperties.Algorithm;
+import java.time.Duration;
+
+public record RateLimitPolicy(String name, Algorithm algorithm, int limit, Duration window) {
+
+    RateLimiter newLimiter(long nowNanos) {
+        return switch (algorithm) {
+            case FIXED_WINDOW -> new FixedWindowRateLimiter(this, nowNanos);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiter(this, nowNanos);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(this, nowNanos);
+        };
+    }
+
+    /** Value of the {@code RateLimit-Policy} header, e.g. {@code 7;w=45}. */
+    public String describe() {
+        return limit + ";w=" + Math.max(window.toSeconds(), 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.server.web.ratelimit;
+
+/**
+ * Budget for one policy and key. Implementations keep their state in a single immutable value swapped by
+ * compare-and-set, so concurrent requests can neither lose an increment nor exceed the limit.
+ */
+interface RateLimiter {
+
+    RateLimitDecision tryAcquire(long nowNanos);
+}
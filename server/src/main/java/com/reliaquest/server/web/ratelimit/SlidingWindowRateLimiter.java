@@ -0,0 +1,61 @@
+package com.reliaquest.server.web.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter: the previous window's count is weighted by how much of it still overlaps the trailing
+ * window, which avoids the double burst a fixed window allows at its boundary without keeping a log per request.
+ */
+final class SlidingWindowRateLimiter implements RateLimiter {
+
+    private final RateLimitPolicy policy;
+    private final long windowNanos;
+    private final AtomicReference<Window> window;
+
+    SlidingWindowRateLimiter(RateLimitPolicy policy, long nowNanos) {
+        this.policy = policy;
+        this.windowNanos = policy.window().toNanos();
+        this.window = new AtomicReference<>(new Window(nowNanos, 0, 0));
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = window.get();
+            final var base = roll(current, nowNanos);
+            final double overlap = 1.0 - (double) (nowNanos - base.start()) / windowNanos;
+            final double estimate = base.previous() * overlap + base.current();
+            final long resetNanos = base.start() + 2 * windowNanos - nowNanos;
+            if (estimate + 1 > policy.limit()) {
+                return RateLimitDecision.denied(policy, resetNanos, retryAfter(base, nowNanos));
+            }
+            final var next = new Window(base.start(), base.previous(), base.current() + 1);
+            if (window.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(policy, (long) Math.floor(policy.limit() - estimate - 1), resetNanos);
+            }
+        }
+    }
+
+    private Window roll(Window window, long nowNanos) {
+        final long elapsed = nowNanos - window.start();
+        if (elapsed < windowNanos) {
+            return window;
+        }
+        final long start = nowNanos - elapsed % windowNanos;
+        return elapsed < 2 * windowNanos ? new Window(start, window.current(), 0) : new Window(start, 0, 0);
+    }
+
+    // Earliest time the weighted estimate leaves room for one more request.
+    private long retryAfter(Window window, long nowNanos) {
+        final int limit = policy.limit();
+        if (window.current() + 1 <= limit && window.previous() > 0) {
+            final double fraction = 1.0 - (double) (limit - window.current() - 1) / window.previous();
+            return Math.max(0, window.start() + (long) Math.ceil(fraction * windowNanos) - nowNanos);
+        }
+        // The current window alone is full: wait for it to become the previous one and decay far enough.
+        final double fraction = Math.max(0, 1.0 - (double) (limit - 1) / Math.max(window.current(), 1));
+        return window.start() + windowNanos + (long) Math.ceil(fraction * windowNanos) - nowNanos;
+    }
+
+    private record Window(long start, int previous, int current) {}
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.server.web.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Holds up to {@code limit} tokens, refilled continuously at {@code limit} per window; each request takes one. */
+final class TokenBucketRateLimiter implements RateLimiter {
+
+    private final RateLimitPolicy policy;
+    private final double tokensPerNano;
+    private final AtomicReference<Bucket> bucket;
+
+    TokenBucketRateLimiter(RateLimitPolicy policy, long nowNanos) {
+        this.policy = policy;
+        this.tokensPerNano = (double) policy.limit() / policy.window().toNanos();
+        this.bucket = new AtomicReference<>(new Bucket(policy.limit(), nowNanos));
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = bucket.get();
+            final double tokens = Math.min(
+                    policy.limit(), current.tokens() + Math.max(0, nowNanos - current.updatedAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return RateLimitDecision.denied(
+                        policy, nanosUntil(policy.limit() - tokens), nanosUntil(1 - tokens));
+            }
+            final var next = new Bucket(tokens - 1, nowNanos);
+            if (bucket.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(
+                        policy, (long) Math.floor(next.tokens()), nanosUntil(policy.limit() - next.tokens()));
+            }
+        }
+    }
+
+    private long nanosUntil(double tokens) {
+        return (long) Math.ceil(tokens / tokensPerNano);
+    }
+
+    private record Bucket(double tokens, long updatedAt) {}
+}
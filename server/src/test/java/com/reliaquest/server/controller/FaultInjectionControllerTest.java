@@ -0,0 +1,64 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.web.faults.FaultInjector;
+import com.reliaquest.server.web.faults.FaultPlan;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class FaultInjectionControllerTest {
+    private static final String FAULTS = """
+            {"seed": 42, "routes": [{"method": "GET", "path": "/api/**", "errorRate": 1, "errorStatus": 503}]}
+            """;
+
+    private final FaultInjector faultInjector = new FaultInjector(new FaultInjectionProperties());
+    private final MockMvc mockMvc =
+            MockMvcBuilders.standaloneSetup(new FaultInjectionController(faultInjector)).build();
+
+    @Test
+    void replaceFaults_appliesNewRules() throws Exception {
+        assertEquals(FaultPlan.NONE, faultInjector.plan("GET", "/api/v1/employee"));
+
+        mockMvc.perform(put("/admin/faults").contentType(MediaType.APPLICATION_JSON).content(FAULTS))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seed").value(42))
+                .andExpect(jsonPath("$.data.routes[0].errorStatus").value(503));
+
+        assertEquals(503, faultInjector.plan("GET", "/api/v1/employee").errorStatus());
+        mockMvc.perform(get("/admin/faults"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.routes[0].path").value("/api/**"));
+    }
+
+    @Test
+    void clearFaults_removesRules() throws Exception {
+        mockMvc.perform(put("/admin/faults").contentType(MediaType.APPLICATION_JSON).content(FAULTS))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/admin/faults"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.routes").isEmpty());
+
+        assertEquals(FaultPlan.NONE, faultInjector.plan("GET", "/api/v1/employee"));
+    }
+
+    @Test
+    void replaceFaults_invalidRate_isBadRequestAndKeepsRules() throws Exception {
+        mockMvc.perform(put("/admin/faults").contentType(MediaType.APPLICATION_JSON).content(FAULTS))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"routes\": [{\"path\": \"/api/**\", \"errorRate\": 2}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("errorRate must be between 0 and 1: 2.0"));
+
+        assertTrue(faultInjector.plan("GET", "/api/v1/employee").error());
+    }
+}
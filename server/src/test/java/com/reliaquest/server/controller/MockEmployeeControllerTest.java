@@ -0,0 +1,43 @@
+package com.reliaquest.server.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+    private final MockEmployeeService mockEmployeeService = mock(MockEmployeeService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+                    new MockEmployeeController(mockEmployeeService, new EmployeeChangeLog(10)))
+            .setControllerAdvice(new MockEmployeeControllerAdvice())
+            .build();
+
+    @Test
+    void getEmployees_malformedShard_isBadRequest() throws Exception {
+        assertInvalidShard("/api/v1/employee?shard=abc");
+        assertInvalidShard("/api/v1/employee?shard=0&shards=many");
+        assertInvalidShard("/api/v1/employee?shard=2&shards=2");
+        verify(mockEmployeeService, never()).copyOfShard(anyInt(), anyInt());
+    }
+
+    @Test
+    void getEmployees_validShard_returnsShard() throws Exception {
+        when(mockEmployeeService.copyOfShard(1, 2)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/employee?shard=1&shards=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    private void assertInvalidShard(String uri) throws Exception {
+        mockMvc.perform(get(uri))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("shard must be between 0 and shards - 1"));
+    }
+}
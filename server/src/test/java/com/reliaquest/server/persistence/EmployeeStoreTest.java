@@ -0,0 +1,152 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeStoreTest {
+    private static final MockEmployee NARUTO = employee("Naruto Uzumaki");
+    private static final MockEmployee SASUKE = employee("Sasuke Uchiha");
+
+    @TempDir
+    Path directory;
+
+    private PersistenceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setFsync(false);
+    }
+
+    @Test
+    void open_withNothingPersisted_savesGeneratedRoster() {
+        assertEquals(List.of(NARUTO), open(List.of(NARUTO)));
+
+        assertTrue(Files.isRegularFile(directory.resolve(EmployeeStore.SNAPSHOT_FILE)));
+        assertEquals(List.of(NARUTO), open(List.of()));
+    }
+
+    @Test
+    void open_replaysLoggedCreatesAndDeletes() {
+        EmployeeStore store = new EmployeeStore(properties);
+        store.open(() -> List.of(NARUTO));
+        store.created(SASUKE);
+        store.deleted(NARUTO);
+        store.flush();
+        store.close();
+
+        assertEquals(List.of(SASUKE), open(List.of()));
+    }
+
+    @Test
+    void open_discardsTornRecordAtEndOfLog() throws IOException {
+        EmployeeStore store = new EmployeeStore(properties);
+        store.open(() -> List.of(NARUTO));
+        store.created(SASUKE);
+        store.flush();
+        store.close();
+        Path logFile = directory.resolve(EmployeeStore.LOG_FILE);
+        long complete = Files.size(logFile);
+        Files.write(logFile, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        assertEquals(List.of(NARUTO, SASUKE), open(List.of()));
+        assertEquals(complete, Files.size(logFile));
+    }
+
+    @Test
+    void open_rejectsRecordWithBadChecksum() throws IOException {
+        EmployeeStore store = new EmployeeStore(properties);
+        store.open(() -> List.of(NARUTO));
+        store.deleted(NARUTO);
+        store.flush();
+        Path logFile = directory.resolve(EmployeeStore.LOG_FILE);
+        long firstRecordEnd = Files.size(logFile);
+        store.created(SASUKE);
+        store.flush();
+        store.close();
+        // Flip the last byte of the second record's payload.
+        flipByte(logFile, Files.size(logFile) - 1);
+
+        assertEquals(List.of(), open(List.of()));
+        assertEquals(firstRecordEnd, Files.size(logFile));
+    }
+
+    @Test
+    void compaction_foldsLogIntoSnapshotAndStartsEmptyLog() throws IOException {
+        properties.setCompactAfter(2);
+        EmployeeStore store = new EmployeeStore(properties);
+        store.open(() -> List.of(NARUTO));
+        store.created(SASUKE);
+        store.deleted(NARUTO);
+        store.flush();
+        store.close();
+
+        assertEquals(12, Files.size(directory.resolve(EmployeeStore.LOG_FILE)));
+        assertFalse(Files.exists(directory.resolve(EmployeeStore.LOG_FILE + ".tmp")));
+        assertEquals(List.of(SASUKE), open(List.of()));
+    }
+
+    @Test
+    void open_withEmptyLogNextToSnapshot_servesSnapshot() throws IOException {
+        assertEquals(List.of(NARUTO), open(List.of(NARUTO)));
+        // What a crash between truncating and rewriting the log header used to leave behind.
+        Files.write(directory.resolve(EmployeeStore.LOG_FILE), new byte[0]);
+
+        assertEquals(List.of(NARUTO), open(List.of()));
+        assertEquals(12, Files.size(directory.resolve(EmployeeStore.LOG_FILE)));
+    }
+
+    @Test
+    void open_withCorruptSnapshot_fails() throws IOException {
+        assertEquals(List.of(NARUTO), open(List.of(NARUTO)));
+        Path snapshotFile = directory.resolve(EmployeeStore.SNAPSHOT_FILE);
+        flipByte(snapshotFile, Files.size(snapshotFile) - 1);
+
+        assertThrows(UncheckedIOException.class, () -> new EmployeeStore(properties).open(List::of));
+    }
+
+    private List<MockEmployee> open(List<MockEmployee> generated) {
+        EmployeeStore store = new EmployeeStore(properties);
+        try {
+            return store.open(() -> generated);
+        } finally {
+            store.close();
+        }
+    }
+
+    private static void flipByte(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.rewind(), position);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.nameUUIDFromBytes(name.getBytes()))
+                .name(name)
+                .salary(100_000)
+                .age(30)
+                .title("Shinobi")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
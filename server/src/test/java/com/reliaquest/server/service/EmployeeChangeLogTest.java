@@ -0,0 +1,99 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.ChangeFeed;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    @Test
+    void since_afterWraparound_returnsChangesFromOldestRetained() {
+        EmployeeChangeLog employeeChangeLog = logWith(3, 5);
+
+        ChangeFeed changeFeed = employeeChangeLog.since(2, 10);
+
+        assertFalse(changeFeed.resyncRequired());
+        assertEquals(5, changeFeed.latestSequence());
+        assertEquals(List.of(3L, 4L, 5L), sequences(changeFeed));
+    }
+
+    @Test
+    void since_beforeOldestRetained_requiresResync() {
+        EmployeeChangeLog employeeChangeLog = logWith(3, 5);
+
+        ChangeFeed changeFeed = employeeChangeLog.since(1, 10);
+
+        assertTrue(changeFeed.resyncRequired());
+        assertEquals(5, changeFeed.latestSequence());
+        assertTrue(changeFeed.changes().isEmpty());
+    }
+
+    @Test
+    void since_pastLatestSequence_requiresResync() {
+        EmployeeChangeLog employeeChangeLog = logWith(3, 2);
+
+        ChangeFeed changeFeed = employeeChangeLog.since(3, 10);
+
+        assertTrue(changeFeed.resyncRequired());
+        assertTrue(changeFeed.changes().isEmpty());
+    }
+
+    @Test
+    void since_latestSequence_returnsNoChanges() {
+        EmployeeChangeLog employeeChangeLog = logWith(3, 5);
+
+        ChangeFeed changeFeed = employeeChangeLog.since(5, 10);
+
+        assertFalse(changeFeed.resyncRequired());
+        assertTrue(changeFeed.changes().isEmpty());
+    }
+
+    @Test
+    void since_nonPositiveLimit_returnsOnlyPosition() {
+        EmployeeChangeLog employeeChangeLog = logWith(10, 4);
+
+        ChangeFeed none = employeeChangeLog.since(0, 0);
+        ChangeFeed negative = employeeChangeLog.since(0, -1);
+
+        assertFalse(none.resyncRequired());
+        assertEquals(4, none.latestSequence());
+        assertTrue(none.changes().isEmpty());
+        assertTrue(negative.changes().isEmpty());
+    }
+
+    @Test
+    void since_limitBelowBacklog_returnsOnePage() {
+        EmployeeChangeLog employeeChangeLog = logWith(10, 7);
+
+        assertEquals(List.of(1L, 2L, 3L), sequences(employeeChangeLog.since(0, 3)));
+        assertEquals(List.of(4L, 5L, 6L), sequences(employeeChangeLog.since(3, 3)));
+        assertEquals(List.of(7L), sequences(employeeChangeLog.since(6, 3)));
+    }
+
+    @Test
+    void since_keepsStreamIdAcrossCalls() {
+        EmployeeChangeLog employeeChangeLog = logWith(10, 1);
+
+        assertEquals(employeeChangeLog.since(0, 1).streamId(), employeeChangeLog.since(1, 1).streamId());
+        assertNotEquals(employeeChangeLog.since(0, 1).streamId(), logWith(10, 1).since(0, 1).streamId());
+    }
+
+    private static EmployeeChangeLog logWith(int retention, int changes) {
+        EmployeeChangeLog employeeChangeLog = new EmployeeChangeLog(retention);
+        for (int i = 0; i < changes; i++) {
+            employeeChangeLog.append(
+                    EmployeeChange.Type.CREATED,
+                    MockEmployee.builder().id(UUID.randomUUID()).name("Employee " + i).build());
+        }
+        return employeeChangeLog;
+    }
+
+    private static List<Long> sequences(ChangeFeed changeFeed) {
+        return changeFeed.changes().stream().map(EmployeeChange::sequence).toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.IdempotencyProperties;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+    private final EmployeeChangeLog employeeChangeLog = new EmployeeChangeLog(100);
+    private final EmployeeStore employeeStore = mock(EmployeeStore.class);
+    private final IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+    private final AtomicLong clock = new AtomicLong();
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyProperties.setTtl(Duration.ofMinutes(10));
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(), employeeChangeLog, employeeStore, idempotencyProperties, new ArrayList<>());
+        mockEmployeeService.nanoClock = clock::get;
+    }
+
+    @Test
+    void create_repeatedKey_returnsOriginalEmployeeWithoutCreatingAgain() {
+        MockEmployee created = mockEmployeeService.create(input("Tony Stark"), "key-1");
+
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        MockEmployee replayed = mockEmployeeService.create(input("Tony Stark"), "key-1");
+
+        assertSame(created, replayed);
+        assertEquals(1, mockEmployeeService.copyOfMockEmployees().size());
+        assertEquals(1, employeeChangeLog.since(0, 100).changes().size());
+        verify(employeeStore, times(1)).created(any());
+    }
+
+    @Test
+    void create_repeatedKeyWithDifferentBody_throws() {
+        mockEmployeeService.create(input("Tony Stark"), "key-1");
+
+        assertThrows(
+                IdempotencyKeyReusedException.class,
+                () -> mockEmployeeService.create(input("Pepper Potts"), "key-1"));
+        assertEquals(1, mockEmployeeService.copyOfMockEmployees().size());
+        assertEquals(1, employeeChangeLog.since(0, 100).changes().size());
+        verify(employeeStore, times(1)).created(any());
+    }
+
+    @Test
+    void create_withoutKey_alwaysCreates() {
+        mockEmployeeService.create(input("Tony Stark"), null);
+        mockEmployeeService.create(input("Tony Stark"), null);
+
+        assertEquals(2, mockEmployeeService.copyOfMockEmployees().size());
+        verify(employeeStore, times(2)).created(any());
+    }
+
+    @Test
+    void create_keyOlderThanTtl_createsAgain() {
+        MockEmployee created = mockEmployeeService.create(input("Tony Stark"), "key-1");
+
+        clock.addAndGet(Duration.ofMinutes(10).toNanos() + 1);
+        MockEmployee recreated = mockEmployeeService.create(input("Tony Stark"), "key-1");
+
+        assertNotEquals(created.getId(), recreated.getId());
+        assertEquals(2, employeeChangeLog.since(0, 100).changes().size());
+    }
+
+    @Test
+    void create_pastMaxKeys_forgetsOldestKey() {
+        idempotencyProperties.setMaxKeys(2);
+        MockEmployee first = mockEmployeeService.create(input("Tony Stark"), "key-1");
+        MockEmployee second = mockEmployeeService.create(input("Pepper Potts"), "key-2");
+        mockEmployeeService.create(input("Happy Hogan"), "key-3");
+
+        assertSame(second, mockEmployeeService.create(input("Pepper Potts"), "key-2"));
+        assertNotEquals(first.getId(), mockEmployeeService.create(input("Tony Stark"), "key-1").getId());
+        verify(employeeStore, times(4)).created(any());
+    }
+
+    @Test
+    void delete_upperCaseSpellingOfSharpS_deletesEmployee() {
+        MockEmployee created = mockEmployeeService.create(input("Hans Stra\u00dfe"), null);
+
+        assertTrue(mockEmployeeService.delete(deleteInput("HANS STRASSE")));
+
+        assertTrue(mockEmployeeService.copyOfMockEmployees().isEmpty());
+        verify(employeeStore).deleted(created);
+    }
+
+    @Test
+    void delete_fullWidthSpelling_deletesAsciiNamedEmployee() {
+        mockEmployeeService.create(input("Tony Stark"), null);
+        // TONY STARK in full-width letters, with an ideographic space.
+        String fullWidth = "\uff34\uff2f\uff2e\uff39\u3000\uff33\uff34\uff21\uff32\uff2b";
+
+        assertTrue(mockEmployeeService.delete(deleteInput(fullWidth)));
+
+        assertTrue(mockEmployeeService.copyOfMockEmployees().isEmpty());
+    }
+
+    @Test
+    void delete_differentName_keepsEmployee() {
+        mockEmployeeService.create(input("Tony Stark"), null);
+
+        assertFalse(mockEmployeeService.delete(deleteInput("Tony Starks")));
+
+        assertEquals(1, mockEmployeeService.copyOfMockEmployees().size());
+        verify(employeeStore, never()).deleted(any());
+    }
+
+    @Test
+    void nameKey_afterLookup_staysOutOfJson() throws Exception {
+        MockEmployee created = mockEmployeeService.create(input("Tony Stark"), null);
+        assertEquals("tony stark", created.getNameKey());
+
+        String json = new ObjectMapper().writeValueAsString(created);
+
+        assertTrue(json.contains("\"employee_name\":\"Tony Stark\""));
+        assertFalse(json.contains("nameKey"));
+        assertFalse(json.contains("tony stark"));
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100_000);
+        input.setAge(40);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
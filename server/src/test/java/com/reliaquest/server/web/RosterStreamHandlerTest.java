@@ -0,0 +1,44 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.service.MockEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+class RosterStreamHandlerTest {
+    private final MockEmployeeService mockEmployeeService = mock(MockEmployeeService.class);
+    private final RosterStreamHandler handler = new RosterStreamHandler(mockEmployeeService, new ObjectMapper());
+
+    @Test
+    void getEmployees_nonNumericShard_isBadRequest() {
+        assertBadRequest(MockServerRequest.builder().queryParam("shard", "first").build());
+    }
+
+    @Test
+    void getEmployees_nonNumericShards_isBadRequest() {
+        assertBadRequest(MockServerRequest.builder()
+                .queryParam("shard", "0")
+                .queryParam("shards", "many")
+                .build());
+    }
+
+    @Test
+    void getEmployees_shardOutOfRange_isBadRequest() {
+        assertBadRequest(MockServerRequest.builder()
+                .queryParam("shard", "2")
+                .queryParam("shards", "2")
+                .build());
+    }
+
+    private void assertBadRequest(MockServerRequest request) {
+        ServerResponse response = handler.getEmployees(request).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+        verifyNoInteractions(mockEmployeeService);
+    }
+}
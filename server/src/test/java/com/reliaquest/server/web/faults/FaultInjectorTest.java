@@ -0,0 +1,190 @@
+package com.reliaquest.server.web.faults;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.Distribution;
+import com.reliaquest.server.config.FaultInjectionProperties.Latency;
+import com.reliaquest.server.config.FaultInjectionProperties.Route;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+    private static final long MILLI = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void sampleNanos_fixed_returnsDelay() {
+        Latency latency = latency(Distribution.FIXED, Duration.ofMillis(250));
+
+        assertEquals(250 * MILLI, FaultInjector.sampleNanos(latency, new Random(1)));
+    }
+
+    @Test
+    void sampleNanos_normal_centersOnDelayAndNeverGoesNegative() {
+        Latency latency = latency(Distribution.NORMAL, Duration.ofMillis(100));
+        latency.setStddev(Duration.ofMillis(20));
+        Random random = new Random(7);
+
+        double sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sum += FaultInjector.sampleNanos(latency, random);
+        }
+        assertEquals(100 * MILLI, sum / 10_000, MILLI);
+
+        latency.setStddev(Duration.ofSeconds(10));
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(FaultInjector.sampleNanos(latency, random) >= 0);
+        }
+    }
+
+    @Test
+    void sampleNanos_pareto_startsAtDelayAndIsCappedAtMax() {
+        Latency latency = latency(Distribution.PARETO, Duration.ofMillis(10));
+        latency.setShape(1.0);
+        latency.setMax(Duration.ofMillis(500));
+        Random random = new Random(11);
+
+        int capped = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long nanos = FaultInjector.sampleNanos(latency, random);
+            assertTrue(nanos >= 10 * MILLI && nanos <= 500 * MILLI, "out of range: " + nanos);
+            if (nanos == 500 * MILLI) {
+                capped++;
+            }
+        }
+        // P(X > 50 * delay) = (1 / 50)^shape
+        assertEquals(0.02, capped / 10_000.0, 0.005);
+    }
+
+    @Test
+    void plan_sameSeed_drawsSameFaults() {
+        Route route = route("/api/**");
+        route.setLatency(latency(Distribution.PARETO, Duration.ofMillis(5)));
+        route.setErrorRate(0.2);
+        route.setDropRate(0.2);
+        route.setSlowDripRate(0.2);
+
+        List<FaultPlan> first = plans(new FaultInjector(properties(42L, route)), 200);
+        assertEquals(first, plans(new FaultInjector(properties(42L, route)), 200));
+        assertNotEquals(first, plans(new FaultInjector(properties(43L, route)), 200));
+    }
+
+    @Test
+    void plan_errorRate_answersWithErrorStatusAtThatRate() {
+        Route route = route("/api/**");
+        route.setErrorRate(0.3);
+        route.setErrorStatus(503);
+        FaultInjector injector = new FaultInjector(properties(1L, route));
+
+        int errors = 0;
+        for (FaultPlan plan : plans(injector, 10_000)) {
+            if (plan.error()) {
+                assertEquals(503, plan.errorStatus());
+                assertFalse(plan.rewritesBody());
+                errors++;
+            } else {
+                assertEquals(FaultPlan.NONE, plan);
+            }
+        }
+        assertEquals(0.3, errors / 10_000.0, 0.02);
+    }
+
+    @Test
+    void plan_dropRate_dropsConnection() {
+        Route route = route("/api/**");
+        route.setDropRate(1);
+
+        FaultPlan plan = new FaultInjector(properties(1L, route)).plan("GET", "/api/v1/employee");
+
+        assertTrue(plan.drop());
+        assertTrue(plan.rewritesBody());
+        assertFalse(plan.error());
+        assertFalse(plan.slowDrip());
+    }
+
+    @Test
+    void plan_slowDripRate_dripsBodyInConfiguredChunks() {
+        Route route = route("/api/**");
+        route.setSlowDripRate(1);
+        route.setDripBytes(16);
+        route.setDripInterval(Duration.ofMillis(250));
+
+        FaultPlan plan = new FaultInjector(properties(1L, route)).plan("GET", "/api/v1/employee");
+
+        assertTrue(plan.slowDrip());
+        assertTrue(plan.rewritesBody());
+        assertFalse(plan.drop());
+        assertEquals(16, plan.dripBytes());
+        assertEquals(250 * MILLI, plan.dripIntervalNanos());
+    }
+
+    @Test
+    void plan_errorTakesPrecedenceOverDropAndDrip() {
+        Route route = route("/api/**");
+        route.setErrorRate(1);
+        route.setDropRate(1);
+        route.setSlowDripRate(1);
+        route.setLatency(latency(Distribution.FIXED, Duration.ofMillis(30)));
+
+        FaultPlan plan = new FaultInjector(properties(1L, route)).plan("GET", "/api/v1/employee");
+
+        assertEquals(new FaultPlan(30 * MILLI, 500, false, 0, 0), plan);
+    }
+
+    @Test
+    void plan_firstMatchingRouteDecides() {
+        Route deletes = route("/api/v1/employee/**");
+        deletes.setMethod("DELETE");
+        deletes.setErrorRate(1);
+        Route everything = route("/api/**");
+        everything.setDropRate(1);
+        FaultInjector injector = new FaultInjector(properties(1L, deletes, everything));
+
+        assertTrue(injector.plan("delete", "/api/v1/employee/Tony").error());
+        assertTrue(injector.plan("GET", "/api/v1/employee/Tony").drop());
+        assertEquals(FaultPlan.NONE, injector.plan("GET", "/admin/faults"));
+    }
+
+    @Test
+    void configure_invalidRoute_throwsAndKeepsRules() {
+        Route route = route("/api/**");
+        route.setErrorRate(1);
+        FaultInjector injector = new FaultInjector(properties(1L, route));
+        Route invalid = route("/api/**");
+        invalid.setErrorStatus(200);
+
+        assertThrows(IllegalArgumentException.class, () -> injector.configure(properties(1L, invalid)));
+        assertTrue(injector.plan("GET", "/api/v1/employee").error());
+    }
+
+    private static List<FaultPlan> plans(FaultInjector injector, int count) {
+        List<FaultPlan> plans = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            plans.add(injector.plan("GET", "/api/v1/employee"));
+        }
+        return plans;
+    }
+
+    private static FaultInjectionProperties properties(Long seed, Route... routes) {
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setSeed(seed);
+        properties.setRoutes(List.of(routes));
+        return properties;
+    }
+
+    private static Route route(String path) {
+        Route route = new Route();
+        route.setPath(path);
+        return route;
+    }
+
+    private static Latency latency(Distribution distribution, Duration delay) {
+        Latency latency = new Latency();
+        latency.setDistribution(distribution);
+        latency.setDelay(delay);
+        return latency;
+    }
+}
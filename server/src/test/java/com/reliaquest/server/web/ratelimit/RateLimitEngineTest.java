@@ -0,0 +1,78 @@
+package com.reliaquest.server.web.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.RateLimitProperties.Algorithm;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RateLimitEngineTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final RateLimitPolicy POLICY =
+            new RateLimitPolicy("default", Algorithm.FIXED_WINDOW, 1, Duration.ofSeconds(10));
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void check_perClient_keepsSeparateBudgets() {
+        RateLimitEngine engine = engine(true, 10);
+
+        assertTrue(engine.check("GET", "/api/v1/employee", "a").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "a").allowed());
+        assertTrue(engine.check("GET", "/api/v1/employee", "b").allowed());
+    }
+
+    @Test
+    void check_shared_ignoresClientKey() {
+        RateLimitEngine engine = engine(false, 10);
+
+        assertTrue(engine.check("GET", "/api/v1/employee", "a").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "b").allowed());
+        assertEquals(1, engine.limiterCount());
+    }
+
+    @Test
+    void check_atMaxClients_sharesOverflowBudgetInsteadOfGrowing() {
+        RateLimitEngine engine = engine(true, 3);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(engine.check("GET", "/api/v1/employee", "client-" + i).allowed());
+        }
+
+        assertTrue(engine.check("GET", "/api/v1/employee", "client-3").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "client-4").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "client-0").allowed());
+        assertEquals(4, engine.limiterCount());
+    }
+
+    @Test
+    void check_atMaxClients_dropsLimitersIdleForTwoWindows() {
+        RateLimitEngine engine = engine(true, 2);
+        engine.check("GET", "/api/v1/employee", "idle");
+        clock.set(15 * SECOND);
+        engine.check("GET", "/api/v1/employee", "busy");
+
+        clock.set(20 * SECOND);
+        assertTrue(engine.check("GET", "/api/v1/employee", "new").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "new").allowed());
+        assertFalse(engine.check("GET", "/api/v1/employee", "busy").allowed());
+        assertEquals(2, engine.limiterCount());
+    }
+
+    @Test
+    void check_manyDistinctClients_staysBounded() {
+        RateLimitEngine engine = engine(true, 100);
+        for (int i = 0; i < 10_000; i++) {
+            clock.addAndGet(SECOND / 10);
+            engine.check("GET", "/api/v1/employee", "client-" + i);
+        }
+
+        assertTrue(engine.limiterCount() <= 101);
+    }
+
+    private RateLimitEngine engine(boolean perClient, int maxClients) {
+        return new RateLimitEngine(POLICY, List.of(), perClient, maxClients, clock::get);
+    }
+}
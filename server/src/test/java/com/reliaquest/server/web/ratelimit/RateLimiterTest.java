@@ -0,0 +1,124 @@
+package com.reliaquest.server.web.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.RateLimitProperties.Algorithm;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void fixedWindow_deniesPastLimitUntilWindowEnds() {
+        RateLimiter limiter = limiter(Algorithm.FIXED_WINDOW, 2, Duration.ofSeconds(10));
+
+        assertAllowed(limiter.tryAcquire(0), 1, 10 * SECOND);
+        assertAllowed(limiter.tryAcquire(SECOND), 0, 9 * SECOND);
+
+        RateLimitDecision denied = limiter.tryAcquire(2 * SECOND + 500 * MILLI);
+        assertDenied(denied, 7500 * MILLI, 7500 * MILLI);
+        assertEquals("8", denied.headers().get("Retry-After"));
+        assertEquals("8", denied.headers().get("RateLimit-Reset"));
+
+        assertAllowed(limiter.tryAcquire(10 * SECOND), 1, 10 * SECOND);
+    }
+
+    @Test
+    void fixedWindow_keepsWindowsAlignedToCreation() {
+        RateLimiter limiter = limiter(Algorithm.FIXED_WINDOW, 1, Duration.ofSeconds(10));
+        limiter.tryAcquire(0);
+
+        assertAllowed(limiter.tryAcquire(25 * SECOND), 0, 5 * SECOND);
+        assertDenied(limiter.tryAcquire(26 * SECOND), 4 * SECOND, 4 * SECOND);
+    }
+
+    @Test
+    void slidingWindow_weightsPreviousWindowByOverlap() {
+        RateLimiter limiter = limiter(Algorithm.SLIDING_WINDOW, 10, Duration.ofSeconds(10));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(0).allowed());
+        }
+
+        // The current window alone is full: 10 * (1 - 1/10) + 1 first fits one second into the next window.
+        assertDenied(limiter.tryAcquire(0), 20 * SECOND, 11 * SECOND);
+        assertFalse(limiter.tryAcquire(10 * SECOND + 500 * MILLI).allowed());
+        assertAllowed(limiter.tryAcquire(11 * SECOND), 0, 19 * SECOND);
+
+        // 10 * 0.9 + 1 + 1 is over the limit until the previous window has decayed to 8 at t=12s.
+        assertDenied(limiter.tryAcquire(11 * SECOND), 19 * SECOND, SECOND);
+        assertFalse(limiter.tryAcquire(11 * SECOND + 900 * MILLI).allowed());
+        assertTrue(limiter.tryAcquire(12 * SECOND).allowed());
+    }
+
+    @Test
+    void slidingWindow_forgetsCountsAfterTwoWindows() {
+        RateLimiter limiter = limiter(Algorithm.SLIDING_WINDOW, 2, Duration.ofSeconds(10));
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        assertAllowed(limiter.tryAcquire(20 * SECOND), 1, 20 * SECOND);
+    }
+
+    @Test
+    void tokenBucket_refillsContinuously() {
+        RateLimiter limiter = limiter(Algorithm.TOKEN_BUCKET, 4, Duration.ofSeconds(4));
+        for (int remaining = 3; remaining >= 0; remaining--) {
+            RateLimitDecision decision = limiter.tryAcquire(0);
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+
+        RateLimitDecision denied = limiter.tryAcquire(0);
+        assertDenied(denied, 4 * SECOND, SECOND);
+        assertEquals("1", denied.headers().get("Retry-After"));
+        assertEquals("4", denied.headers().get("RateLimit-Reset"));
+
+        assertDenied(limiter.tryAcquire(500 * MILLI), 3500 * MILLI, 500 * MILLI);
+        assertAllowed(limiter.tryAcquire(SECOND), 0, 4 * SECOND);
+        assertAllowed(limiter.tryAcquire(60 * SECOND), 3, SECOND);
+    }
+
+    @Test
+    void headers_roundUpToWholeSecondsAndRetryAfterAtLeastOne() {
+        RateLimitPolicy policy = new RateLimitPolicy("test", Algorithm.FIXED_WINDOW, 7, Duration.ofSeconds(45));
+
+        Map<String, String> allowed = RateLimitDecision.allowed(policy, 3, SECOND + 1).headers();
+        assertEquals("7", allowed.get("RateLimit-Limit"));
+        assertEquals("3", allowed.get("RateLimit-Remaining"));
+        assertEquals("2", allowed.get("RateLimit-Reset"));
+        assertEquals("7;w=45", allowed.get("RateLimit-Policy"));
+        assertFalse(allowed.containsKey("Retry-After"));
+
+        Map<String, String> denied = RateLimitDecision.denied(policy, 0, MILLI).headers();
+        assertEquals("0", denied.get("RateLimit-Remaining"));
+        assertEquals("0", denied.get("RateLimit-Reset"));
+        assertEquals("1", denied.get("Retry-After"));
+    }
+
+    private static RateLimiter limiter(Algorithm algorithm, int limit, Duration window) {
+        return new RateLimitPolicy("test", algorithm, limit, window).newLimiter(0);
+    }
+
+    private static void assertAllowed(RateLimitDecision decision, long remaining, long resetNanos) {
+        assertTrue(decision.allowed());
+        assertEquals(remaining, decision.remaining());
+        assertNanos(resetNanos, decision.resetNanos());
+        assertEquals(0, decision.retryAfterNanos());
+    }
+
+    private static void assertDenied(RateLimitDecision decision, long resetNanos, long retryAfterNanos) {
+        assertFalse(decision.allowed());
+        assertEquals(0, decision.remaining());
+        assertNanos(resetNanos, decision.resetNanos());
+        assertNanos(retryAfterNanos, decision.retryAfterNanos());
+    }
+
+    // Token bucket waits come from floating point division, so allow a nanosecond either way.
+    private static void assertNanos(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= 1, "expected " + expected + "ns but was " + actual + "ns");
+    }
+}